@@ -0,0 +1,60 @@
+package com.planitsquare.holidayservice;
+
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidayResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 공용 데이터. 실제 Nager 응답과 비슷한 이름 길이·유형 분포를 고정 시드로 만든다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final List<List<String>> TYPE_SETS = List.of(
+        List.of("Public"),
+        List.of("Public"),
+        List.of("Public", "Bank"),
+        List.of("Bank", "Public"),
+        List.of("Observance"),
+        List.of("School", "Authorities"),
+        List.of("Optional")
+    );
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<NagerHolidayResponse> nagerHolidays(String countryCode, int year, int count) {
+        SplittableRandom random = new SplittableRandom(31L * year + countryCode.hashCode());
+        List<NagerHolidayResponse> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = LocalDate.ofYearDay(year, 1 + (i * 7) % 365);
+            result.add(new NagerHolidayResponse(
+                date,
+                "현지 공휴일 " + i,
+                "Holiday number " + i,
+                countryCode,
+                random.nextBoolean(),
+                random.nextInt(4) != 0,
+                List.of(),
+                random.nextInt(3) == 0 ? 1900 + random.nextInt(120) : null,
+                TYPE_SETS.get(random.nextInt(TYPE_SETS.size()))
+            ));
+        }
+        return result;
+    }
+
+    public static List<Holiday> holidays(Country country, List<NagerHolidayResponse> source) {
+        List<Holiday> result = new ArrayList<>(source.size());
+        for (NagerHolidayResponse dto : source) {
+            result.add(Holiday.create(
+                country, dto.date(), dto.localName(), dto.name(),
+                dto.fixed(), dto.global(), dto.launchYear(), dto.types()
+            ));
+        }
+        return result;
+    }
+}
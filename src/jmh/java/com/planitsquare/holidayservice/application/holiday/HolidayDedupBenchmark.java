@@ -0,0 +1,86 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.BenchmarkFixtures;
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidayResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * syncByYearAndCountry 의 중복 판별 구간.
+ * - legacyStringKeys: 이전 방식 ("date|localName|types" 문자열 + 정렬된 buildTypeKey) 키 생성·비교
+ * - holidayKeys: HolidayKey(epoch-day·유형 마스크 long + localName 참조) 키 생성·비교
+ * - newHolidays: 키 비교 + 신규 엔티티 생성 전체
+ * gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 두 키 방식의 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HolidayDedupBenchmark {
+
+    @Param({"20", "1000"})
+    int rows;
+
+    // 응답 중 이미 저장되어 있는 비율 (재동기화면 100)
+    @Param({"0", "100"})
+    int existingPercent;
+
+    private Country country;
+    private List<NagerHolidayResponse> fetched;
+    private List<Holiday> existing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        country = new Country("KR", "South Korea");
+        fetched = BenchmarkFixtures.nagerHolidays("KR", 2024, rows);
+        existing = BenchmarkFixtures.holidays(country, fetched.subList(0, rows * existingPercent / 100));
+    }
+
+    @Benchmark
+    public int legacyStringKeys() {
+        Set<String> keys = new HashSet<>();
+        for (Holiday holiday : existing) {
+            keys.add(holiday.getDate() + "|" + holiday.getLocalName() + "|" + String.join(",", holiday.getTypes()));
+        }
+        int fresh = 0;
+        for (NagerHolidayResponse dto : fetched) {
+            String typeKey = dto.types() == null ? "" : dto.types().stream().sorted().collect(Collectors.joining(","));
+            if (keys.add(dto.date() + "|" + dto.localName() + "|" + typeKey)) {
+                fresh++;
+            }
+        }
+        return fresh;
+    }
+
+    @Benchmark
+    public int holidayKeys() {
+        Set<HolidayKey> keys = existingKeys();
+        int fresh = 0;
+        for (NagerHolidayResponse dto : fetched) {
+            if (keys.add(HolidayKey.of(dto))) {
+                fresh++;
+            }
+        }
+        return fresh;
+    }
+
+    @Benchmark
+    public void newHolidays(Blackhole bh) {
+        bh.consume(HolidayDiffer.newHolidays(country, fetched, existingKeys()));
+    }
+
+    private Set<HolidayKey> existingKeys() {
+        Set<HolidayKey> keys = new HashSet<>(existing.size() * 2);
+        for (Holiday holiday : existing) {
+            keys.add(HolidayKey.of(holiday));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,89 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import com.planitsquare.holidayservice.HolidayserviceApplication;
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.country.CountryRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 에서 HolidayRepository.saveAll 의 초당 적재 행 수 (IDENTITY vs pooled 시퀀스).
+ * - SEQUENCE: 엔티티 매핑 그대로 (holiday_seq, allocationSize 50) → jdbc.batch_size 단위 배치 insert
+ * - IDENTITY: META-INF/holiday-identity-orm.xml 로 id 생성만 IDENTITY 로 덮어씀 → insert 마다 생성 키 조회, 배치 비활성
+ * 한 번의 호출이 rows 건을 저장하며, 점수는 초당 저장 행 수다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(HolidayInsertBenchmark.ROWS)
+public class HolidayInsertBenchmark {
+
+    static final int ROWS = 1000;
+
+    @Param({"SEQUENCE", "IDENTITY"})
+    String idGeneration;
+
+    private ConfigurableApplicationContext context;
+    private HolidayRepository holidayRepository;
+    private Country country;
+
+    private long sequence;
+    private List<Holiday> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.profiles.active=bench",
+            "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--logging.level.root=WARN",
+            "--holiday.index.enabled=false"
+        ));
+        if (idGeneration.equals("IDENTITY")) {
+            args.add("--spring.jpa.mapping-resources=META-INF/holiday-identity-orm.xml");
+        }
+        context = new SpringApplicationBuilder(HolidayserviceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(new String[0]));
+        holidayRepository = context.getBean(HolidayRepository.class);
+        country = context.getBean(CountryRepository.class).save(new Country("KR", "Korea"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 반복마다 테이블을 비워 인덱스 크기가 결과에 섞이지 않게 한다
+    @Setup(Level.Iteration)
+    public void truncate() {
+        holidayRepository.deleteAllInBatch();
+    }
+
+    // 저장할 새 엔티티 (유니크 제약을 피하도록 localName 을 매번 다르게)
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        batch = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            long n = sequence++;
+            batch.add(Holiday.create(
+                country, LocalDate.ofYearDay(2024, 1 + (int) (n % 365)), "공휴일 " + n, "Holiday " + n,
+                false, true, null, 1
+            ));
+        }
+    }
+
+    @Benchmark
+    public List<Holiday> saveAll() {
+        return holidayRepository.saveAll(batch);
+    }
+}
@@ -0,0 +1,133 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import com.planitsquare.holidayservice.BenchmarkFixtures;
+import com.planitsquare.holidayservice.HolidayserviceApplication;
+import com.planitsquare.holidayservice.application.holiday.HolidaySearchCond;
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.country.CountryRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 API 가 사용하는 HolidayRepositoryImpl.searchHolidayViews 를 시드된 H2 데이터에 대해 측정한다.
+ * rows 는 전체 공휴일 건수이며 (2020~2025 × 국가 × 연 15건)으로 채운다.
+ * index=false 면 QueryDSL SQL 경로, true 면 인메모리 인덱스 경로를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HolidaySearchBenchmark {
+
+    private static final int HOLIDAYS_PER_YEAR = 15;
+    private static final int FROM_YEAR = 2020;
+    private static final int TO_YEAR = 2025;
+
+    @Param({"1000", "10000", "100000"})
+    int rows;
+
+    @Param({"false", "true"})
+    boolean index;
+
+    private ConfigurableApplicationContext context;
+    private HolidayRepository holidayRepository;
+
+    private HolidaySearchCond countryAndYear;
+    private HolidaySearchCond yearOnly;
+    private HolidaySearchCond yearAndType;
+    private HolidaySearchCond countryAndRange;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // local 프로파일(DataInitializer 의 Nager 호출)을 끄고 벤치마크마다 독립된 DB 를 사용
+        context = new SpringApplicationBuilder(HolidayserviceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.profiles.active=bench",
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--holiday.index.enabled=" + index,
+                "--holiday.search-cache.enabled=false"
+            );
+        holidayRepository = context.getBean(HolidayRepository.class);
+        seed(context.getBean(CountryRepository.class));
+
+        if (index) {
+            context.getBean(HolidayIndex.class).rebuildAll();
+        }
+
+        countryAndYear = HolidaySearchCond.builder().countryCode("C000").year(2023).build();
+        yearOnly = HolidaySearchCond.builder().year(2023).build();
+        yearAndType = HolidaySearchCond.builder().year(2023).type("Bank").build();
+        countryAndRange = HolidaySearchCond.builder()
+            .countryCode("C000")
+            .from(LocalDate.of(2022, 6, 1))
+            .to(LocalDate.of(2024, 5, 31))
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<HolidayView> countryAndYear() {
+        return holidayRepository.searchHolidayViews(countryAndYear, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Page<HolidayView> yearOnlyDeepPage() {
+        return holidayRepository.searchHolidayViews(yearOnly, PageRequest.of(10, 20));
+    }
+
+    @Benchmark
+    public Page<HolidayView> yearAndType() {
+        return holidayRepository.searchHolidayViews(yearAndType, PageRequest.of(1, 20));
+    }
+
+    @Benchmark
+    public Page<HolidayView> countryAndRange() {
+        return holidayRepository.searchHolidayViews(countryAndRange, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Page<HolidayView> yearOnlyLargePage() {
+        return holidayRepository.searchHolidayViews(yearOnly, PageRequest.of(0, 200));
+    }
+
+    private void seed(CountryRepository countryRepository) {
+        int partitionsPerCountry = (TO_YEAR - FROM_YEAR + 1) * HOLIDAYS_PER_YEAR;
+        int countryCount = Math.max(1, rows / partitionsPerCountry);
+
+        List<Country> countries = new ArrayList<>(countryCount);
+        for (int i = 0; i < countryCount; i++) {
+            countries.add(new Country(String.format("C%03d", i), "Country " + i));
+        }
+        countries = countryRepository.saveAll(countries);
+
+        List<Holiday> batch = new ArrayList<>();
+        for (Country country : countries) {
+            for (int year = FROM_YEAR; year <= TO_YEAR; year++) {
+                batch.addAll(BenchmarkFixtures.holidays(
+                    country, BenchmarkFixtures.nagerHolidays(country.getCode(), year, HOLIDAYS_PER_YEAR)));
+            }
+            if (batch.size() >= 5_000) {
+                holidayRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        holidayRepository.saveAll(batch);
+    }
+}
@@ -0,0 +1,144 @@
+package com.planitsquare.holidayservice.external.nager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.planitsquare.holidayservice.BenchmarkFixtures;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidaysPayload;
+import com.planitsquare.holidayservice.global.config.RestClientConfig;
+import com.planitsquare.holidayservice.global.metrics.HolidayMetrics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 병렬 동기화 시 Nager 전송 계층의 연결 재사용.
+ * 로컬 stub 서버(JDK HttpServer)에 RestClientConfig 가 만드는 실제 RestClient 로 16 스레드가 동시에 요청한다.
+ * - keepAlive=true: 서버가 연결을 유지 → 풀의 연결을 재사용
+ * - keepAlive=false: 서버가 응답마다 연결을 닫음 → 요청마다 새 연결 (풀이 없는 것과 같은 비용)
+ * 요청 수와 서버가 새로 본 연결 수(원격 포트 기준)는 보조 카운터(requests / connections)로 결과에 함께 기록된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class NagerTransportBenchmark {
+
+    @Param({"true", "false"})
+    boolean keepAlive;
+
+    private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+    // 서버가 처음 본 연결 수, 벤치마크 스레드가 가져가 Counters 에 더한다
+    private final LongAdder newConnections = new LongAdder();
+
+    private byte[] body;
+    private byte[] gzippedBody;
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private NagerApiClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        body = objectMapper.writeValueAsBytes(BenchmarkFixtures.nagerHolidays("KR", 2024, 20));
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(body);
+        }
+        gzippedBody = gzipped.toByteArray();
+
+        // JDK HttpServer 는 기본적으로 TCP_NODELAY 를 끄므로, 재사용 연결에서 Nagle + delayed ACK 로
+        // 응답이 수십 ms 씩 지연되어 stub 을 측정하게 된다. 서버 설정은 클래스 로딩 시 읽히므로 생성 전에 지정
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        server.createContext("/api/v3/PublicHolidays", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        // stub 서버는 평문 HTTP/1.1 이므로 h2c 업그레이드 시도 없이 HTTP/1.1 로 고정
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v3";
+        client = new NagerApiClient(
+            new RestClientConfig().nagerRestClient(baseUrl, 2000, 5000, false),
+            objectMapper,
+            new HolidayMetrics(new SimpleMeterRegistry()),
+            new NagerUpstreamGuard(16, 16, 16, 0.5, 1000, 5, 10000)
+        );
+    }
+
+    @Setup(Level.Iteration)
+    public void resetConnections() {
+        remotePorts.clear();
+        newConnections.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public NagerHolidaysPayload getPublicHolidays(Counters counters) {
+        NagerHolidaysPayload payload = client.getPublicHolidays(2024, "KR", null, null);
+        counters.requests++;
+        counters.connections += newConnections.sumThenReset();
+        return payload;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        if (remotePorts.add(exchange.getRemoteAddress().getPort())) {
+            newConnections.increment();
+        }
+
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        byte[] response = gzip ? gzippedBody : body;
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (gzip) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        if (!keepAlive) {
+            exchange.getResponseHeaders().set("Connection", "close");
+        }
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    /**
+     * 반복마다 스레드별 값을 합산해 requests / connections 로 보고한다 (requests / connections = 연결당 요청 수).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long requests;
+        public long connections;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+            connections = 0;
+        }
+    }
+}
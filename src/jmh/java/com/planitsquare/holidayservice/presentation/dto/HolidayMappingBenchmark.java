@@ -0,0 +1,51 @@
+package com.planitsquare.holidayservice.presentation.dto;
+
+import com.planitsquare.holidayservice.BenchmarkFixtures;
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidayResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 생성(Holiday.create)과 응답 변환(HolidayResponse.from) 비용. 한 번의 호출이 rows 건을 처리한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HolidayMappingBenchmark {
+
+    @Param({"20", "1000"})
+    int rows;
+
+    private Country country;
+    private List<NagerHolidayResponse> fetched;
+    private List<Holiday> holidays;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        country = new Country("KR", "South Korea");
+        fetched = BenchmarkFixtures.nagerHolidays("KR", 2024, rows);
+        holidays = BenchmarkFixtures.holidays(country, fetched);
+    }
+
+    @Benchmark
+    public void holidayCreate(Blackhole bh) {
+        for (NagerHolidayResponse dto : fetched) {
+            bh.consume(Holiday.create(
+                country, dto.date(), dto.localName(), dto.name(),
+                dto.fixed(), dto.global(), dto.launchYear(), dto.types()
+            ));
+        }
+    }
+
+    @Benchmark
+    public void holidayResponseFrom(Blackhole bh) {
+        for (Holiday holiday : holidays) {
+            bh.consume(HolidayResponse.from(holiday));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 단일 (연도, 국가)의 영업일 달력.
+ *
+ * 주말 + 공휴일을 최대 366bit 비트맵으로 표시하고 영업일 누적합을 미리 계산해 두어
+ * 구간 영업일 수는 O(1), N번째 영업일 탐색은 O(log n) 으로 처리한다.
+ * 날짜 인덱스는 dayOfYear - 1 이다.
+ */
+public final class BusinessDayCalendar {
+
+    private final int year;
+    private final long[] offDays = new long[6];
+    // cumulative[i] = [0, i) 구간의 영업일 수
+    private final int[] cumulative;
+
+    private BusinessDayCalendar(int year) {
+        this.year = year;
+        this.cumulative = new int[Year.of(year).length() + 1];
+    }
+
+    public static BusinessDayCalendar of(int year, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        BusinessDayCalendar calendar = new BusinessDayCalendar(year);
+        int length = calendar.length();
+
+        LocalDate day = LocalDate.ofYearDay(year, 1);
+        for (int i = 0; i < length; i++, day = day.plusDays(1)) {
+            if (weekend.contains(day.getDayOfWeek())) {
+                calendar.markOff(i);
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            if (holiday.getYear() == year) {
+                calendar.markOff(holiday.getDayOfYear() - 1);
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            calendar.cumulative[i + 1] = calendar.cumulative[i] + (calendar.isOff(i) ? 0 : 1);
+        }
+        return calendar;
+    }
+
+    public int year() {
+        return year;
+    }
+
+    public int length() {
+        return cumulative.length - 1;
+    }
+
+    // 연간 총 영업일 수
+    public int total() {
+        return cumulative[length()];
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        return !isOff(date.getDayOfYear() - 1);
+    }
+
+    // [fromIndex, toIndex] 구간(양 끝 포함)의 영업일 수
+    public int countBetween(int fromIndex, int toIndex) {
+        return cumulative[toIndex + 1] - cumulative[fromIndex];
+    }
+
+    // 연초부터 dayIndex 직전까지의 영업일 수
+    public int countBefore(int dayIndex) {
+        return cumulative[dayIndex];
+    }
+
+    // 연초부터 dayIndex 까지(포함)의 영업일 수
+    public int countThrough(int dayIndex) {
+        return cumulative[dayIndex + 1];
+    }
+
+    // 해당 연도의 n번째(1부터) 영업일
+    public LocalDate nthBusinessDay(int n) {
+        if (n < 1 || n > total()) {
+            throw new IllegalArgumentException("n is out of range: " + n);
+        }
+        int lo = 1;
+        int hi = length();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] < n) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return LocalDate.ofYearDay(year, lo);
+    }
+
+    private void markOff(int dayIndex) {
+        offDays[dayIndex >>> 6] |= 1L << (dayIndex & 63);
+    }
+
+    private boolean isOff(int dayIndex) {
+        return (offDays[dayIndex >>> 6] & (1L << (dayIndex & 63))) != 0;
+    }
+}
@@ -0,0 +1,157 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.country.CountryRepository;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayDataChangedEvent;
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+import com.planitsquare.holidayservice.domain.holiday.HolidayRepository;
+import com.planitsquare.holidayservice.domain.holiday.HolidayType;
+import com.planitsquare.holidayservice.global.exception.BusinessException;
+import com.planitsquare.holidayservice.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 국가별 영업일 계산 서비스.
+ * (연도, 국가) 단위 BusinessDayCalendar 를 Holiday 테이블에서 한 번 만들어 두고,
+ * 해당 범위의 공휴일 데이터가 바뀌면 폐기한다.
+ */
+@Service
+@Slf4j
+public class BusinessDayService {
+
+    private final HolidayRepository holidayRepository;
+    private final CountryRepository countryRepository;
+    private final Set<DayOfWeek> weekend;
+
+    private final Map<HolidayPartition, BusinessDayCalendar> calendars = new ConcurrentHashMap<>();
+    // 달력 생성 중 데이터가 바뀌었는지 판단하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public BusinessDayService(
+        HolidayRepository holidayRepository,
+        CountryRepository countryRepository,
+        @Value("${holiday.business-day.weekend:SATURDAY,SUNDAY}") List<DayOfWeek> weekend
+    ) {
+        this.holidayRepository = holidayRepository;
+        this.countryRepository = countryRepository;
+        this.weekend = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+    }
+
+    // from ~ to (양 끝 포함) 사이의 영업일 수
+    @Transactional(readOnly = true)
+    public long countBusinessDays(String countryCode, LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException(
+                ErrorCode.INVALID_REQUEST,
+                "from 은 to 보다 이후일 수 없습니다. from=" + from + ", to=" + to
+            );
+        }
+        validateCountry(countryCode);
+
+        if (from.getYear() == to.getYear()) {
+            return calendarOf(countryCode, from.getYear())
+                .countBetween(from.getDayOfYear() - 1, to.getDayOfYear() - 1);
+        }
+
+        BusinessDayCalendar first = calendarOf(countryCode, from.getYear());
+        long count = first.total() - first.countBefore(from.getDayOfYear() - 1);
+        for (int year = from.getYear() + 1; year < to.getYear(); year++) {
+            count += calendarOf(countryCode, year).total();
+        }
+        count += calendarOf(countryCode, to.getYear()).countThrough(to.getDayOfYear() - 1);
+        return count;
+    }
+
+    // date 로부터 days 영업일 뒤(음수면 앞)의 날짜
+    @Transactional(readOnly = true)
+    public LocalDate addBusinessDays(String countryCode, LocalDate date, int days) {
+        if (date == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "date 는 필수입니다.");
+        }
+        validateCountry(countryCode);
+
+        BusinessDayCalendar calendar = calendarOf(countryCode, date.getYear());
+        if (days == 0) {
+            return date;
+        }
+
+        int dayIndex = date.getDayOfYear() - 1;
+
+        if (days > 0) {
+            // 해당 연도 기준 몇 번째 영업일인지로 바꿔 다음 연도로 넘겨가며 탐색
+            long target = (long) calendar.countThrough(dayIndex) + days;
+            while (target > calendar.total()) {
+                target -= calendar.total();
+                calendar = calendarOf(countryCode, calendar.year() + 1);
+            }
+            return calendar.nthBusinessDay((int) target);
+        }
+
+        long target = (long) calendar.countBefore(dayIndex) + days + 1;
+        while (target < 1) {
+            calendar = calendarOf(countryCode, calendar.year() - 1);
+            target += calendar.total();
+        }
+        return calendar.nthBusinessDay((int) target);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        generation.incrementAndGet();
+        calendars.keySet().removeIf(event::covers);
+    }
+
+    private BusinessDayCalendar calendarOf(String countryCode, int year) {
+        HolidayPartition key = new HolidayPartition(year, countryCode);
+        BusinessDayCalendar cached = calendars.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generationAtLoad = generation.get();
+        List<Holiday> holidays = holidayRepository.findByCountryCodeAndYear(countryCode, year);
+        if (holidays.isEmpty()) {
+            throw new BusinessException(
+                ErrorCode.BUSINESS_CALENDAR_NOT_AVAILABLE,
+                "영업일 계산에 필요한 공휴일 데이터가 없습니다. year=" + year + ", countryCode=" + countryCode
+            );
+        }
+
+        // 전국 단위 법정 공휴일(Public)만 휴무일로 본다
+        List<LocalDate> offDays = holidays.stream()
+            .filter(Holiday::isGlobalHoliday)
+            .filter(h -> (h.getTypeMask() & HolidayType.PUBLIC.getBit()) != 0)
+            .map(Holiday::getDate)
+            .toList();
+
+        BusinessDayCalendar calendar = BusinessDayCalendar.of(year, weekend, offDays);
+
+        // 생성 도중 데이터가 변경되었다면 캐시하지 않는다
+        if (generation.get() == generationAtLoad) {
+            calendars.putIfAbsent(key, calendar);
+        }
+        return calendar;
+    }
+
+    private void validateCountry(String countryCode) {
+        if (countryCode == null || !countryRepository.existsByCode(countryCode)) {
+            throw new BusinessException(
+                ErrorCode.COUNTRY_NOT_FOUND,
+                "국가를 찾을 수 없습니다. countryCode=" + countryCode
+            );
+        }
+    }
+}
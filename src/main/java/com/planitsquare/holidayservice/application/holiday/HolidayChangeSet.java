@@ -0,0 +1,25 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+
+import java.util.List;
+
+/**
+ * 한 (연도, 국가) 파티션의 저장 데이터와 upstream 응답 차이
+ *
+ * @param toInsert  새로 저장할 공휴일
+ * @param updated   속성을 갱신한(dirty) 기존 공휴일 수
+ * @param toDelete  upstream 에 없어 삭제할 기존 공휴일
+ * @param unchanged 그대로인 기존 공휴일 수
+ */
+record HolidayChangeSet(
+    List<Holiday> toInsert,
+    int updated,
+    List<Holiday> toDelete,
+    int unchanged
+) {
+
+    boolean hasChanges() {
+        return !toInsert.isEmpty() || updated > 0 || !toDelete.isEmpty();
+    }
+}
@@ -0,0 +1,36 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.global.exception.BusinessException;
+import com.planitsquare.holidayservice.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 커서 기반(seek) 페이지네이션 위치. 마지막으로 반환한 행의 (date, id) 이며
+ * 클라이언트에는 불투명한 토큰 문자열로 전달된다.
+ */
+public record HolidayCursor(LocalDate date, long id) {
+
+    public static HolidayCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new HolidayCursor(
+                LocalDate.ofEpochDay(Long.parseLong(raw.substring(0, separator))),
+                Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR, "유효하지 않은 커서입니다. cursor=" + token);
+        }
+    }
+
+    public String encode() {
+        String raw = date.toEpochDay() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidayResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 저장된 공휴일과 Nager 응답을 비교해 신규 적재 대상을 계산한다. (DB 접근 없음)
+ */
+final class HolidayDiffer {
+
+    private HolidayDiffer() {
+    }
+
+    /**
+     * @param seenKeys 이미 저장된 공휴일 키. 신규 키가 추가된다.
+     */
+    static List<Holiday> newHolidays(Country country, List<NagerHolidayResponse> fetched, Set<HolidayKey> seenKeys) {
+        List<Holiday> toInsert = new ArrayList<>();
+
+        for (NagerHolidayResponse dto : fetched) {
+            if (!seenKeys.add(HolidayKey.of(dto))) {
+                continue;
+            }
+
+            Holiday holiday = Holiday.create(
+                country,
+                dto.date(),
+                dto.localName(),
+                dto.name(),
+                dto.fixed(),
+                dto.global(),
+                dto.launchYear(),
+                dto.types()      // 내부에서 비트마스크로 변환
+            );
+
+            toInsert.add(holiday);
+        }
+        return toInsert;
+    }
+
+    /**
+     * 재동기화용 전체 차이 계산. (date, localName, 유형)이 같은 기존 공휴일은 나머지 속성만 갱신하고,
+     * 응답에 없는 기존 공휴일은 삭제 대상으로 돌려준다.
+     *
+     * @param existing 같은 파티션의 저장된(영속 상태) 공휴일. 갱신 대상은 이 메서드에서 값이 바뀐다.
+     */
+    static HolidayChangeSet changes(Country country, List<Holiday> existing, List<NagerHolidayResponse> fetched) {
+        Map<HolidayKey, Holiday> remaining = new HashMap<>(existing.size() * 2);
+        for (Holiday holiday : existing) {
+            remaining.put(HolidayKey.of(holiday), holiday);
+        }
+
+        Set<HolidayKey> seenKeys = new HashSet<>(fetched.size() * 2);
+        List<Holiday> toInsert = new ArrayList<>();
+        int updated = 0;
+        int unchanged = 0;
+
+        for (NagerHolidayResponse dto : fetched) {
+            HolidayKey key = HolidayKey.of(dto);
+            // 응답 안의 중복은 첫 번째만 반영
+            if (!seenKeys.add(key)) {
+                continue;
+            }
+
+            Holiday current = remaining.remove(key);
+            if (current == null) {
+                toInsert.add(Holiday.create(
+                    country, dto.date(), dto.localName(), dto.name(),
+                    dto.fixed(), dto.global(), dto.launchYear(), dto.types()
+                ));
+            } else if (current.updateDetails(dto.name(), dto.fixed(), dto.global(), dto.launchYear())) {
+                updated++;
+            } else {
+                unchanged++;
+            }
+        }
+        return new HolidayChangeSet(toInsert, updated, new ArrayList<>(remaining.values()), unchanged);
+    }
+}
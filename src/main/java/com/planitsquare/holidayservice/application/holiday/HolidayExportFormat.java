@@ -0,0 +1,18 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import lombok.Getter;
+
+@Getter
+public enum HolidayExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    HolidayExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,151 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayRepository;
+import com.planitsquare.holidayservice.presentation.dto.HolidayResponse;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 공휴일 전체 내보내기. 결과를 모으지 않고 DB 커서에서 읽는 즉시 응답 스트림에 쓴다.
+ * 일정 건수마다 영속성 컨텍스트를 비워 데이터 양과 무관하게 메모리 사용량을 일정하게 유지한다.
+ */
+@Service
+@Slf4j
+public class HolidayExportService {
+
+    private static final String CSV_HEADER =
+        "id,countryCode,countryName,date,year,localName,name,fixed,globalHoliday,launchYear,types";
+
+    private final HolidayRepository holidayRepository;
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+    // 행마다 응답 스트림을 flush 하지 않도록 비활성화
+    private final ObjectWriter rowWriter;
+    private final int fetchSize;
+
+    public HolidayExportService(
+        HolidayRepository holidayRepository,
+        EntityManager em,
+        ObjectMapper objectMapper,
+        @Value("${holiday.export.fetch-size:500}") int fetchSize
+    ) {
+        this.holidayRepository = holidayRepository;
+        this.em = em;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(HolidayResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(String countryCode, Integer year, HolidayExportFormat format, OutputStream out) {
+        long start = System.currentTimeMillis();
+        long rows = 0;
+
+        try (Stream<Holiday> holidays = holidayRepository.streamHolidays(countryCode, year, fetchSize)) {
+            Iterator<Holiday> it = holidays.iterator();
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(it, out);
+                case CSV -> writeCsv(it, out);
+            };
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            log.info("[HolidayExport] format={}, countryCode={}, year={}, rows={}, elapsedMs={}",
+                format, countryCode, year, rows, System.currentTimeMillis() - start);
+        }
+    }
+
+    private long writeNdjson(Iterator<Holiday> it, OutputStream out) throws IOException {
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            while (it.hasNext()) {
+                rowWriter.writeValue(generator, HolidayResponse.from(it.next()));
+                generator.writeRaw('\n');
+                rows = afterRow(rows);
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<Holiday> it, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while (it.hasNext()) {
+            Holiday h = it.next();
+            writer.write(String.valueOf(h.getId()));
+            writer.write(',');
+            writer.write(csv(h.getCountry().getCode()));
+            writer.write(',');
+            writer.write(csv(h.getCountry().getName()));
+            writer.write(',');
+            writer.write(h.getDate().toString());
+            writer.write(',');
+            writer.write(String.valueOf(h.getYear()));
+            writer.write(',');
+            writer.write(csv(h.getLocalName()));
+            writer.write(',');
+            writer.write(csv(h.getName()));
+            writer.write(',');
+            writer.write(String.valueOf(h.isFixed()));
+            writer.write(',');
+            writer.write(String.valueOf(h.isGlobalHoliday()));
+            writer.write(',');
+            writer.write(h.getLaunchYear() == null ? "" : String.valueOf(h.getLaunchYear()));
+            writer.write(',');
+            writer.write(String.join(";", h.getTypes()));
+            writer.write('\n');
+            rows = afterRow(rows);
+        }
+        writer.flush();
+        return rows;
+    }
+
+    // fetchSize 건마다 읽은 엔티티를 영속성 컨텍스트에서 분리
+    private long afterRow(long rows) {
+        rows++;
+        if (rows % fetchSize == 0) {
+            em.clear();
+        }
+        return rows;
+    }
+
+    // RFC 4180: 구분자/따옴표/개행이 있으면 큰따옴표로 감싸고 내부 따옴표는 두 번 쓴다
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,10 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+/**
+ * 미리 gzip 으로 압축해 둔 iCalendar 피드
+ *
+ * @param gzipped 압축된 본문
+ * @param etag    압축 전 본문으로 만든 strong ETag
+ */
+public record HolidayFeed(byte[] gzipped, String etag) {
+}
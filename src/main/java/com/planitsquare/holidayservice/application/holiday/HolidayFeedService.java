@@ -0,0 +1,204 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.country.CountryRepository;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayDataChangedEvent;
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+import com.planitsquare.holidayservice.domain.holiday.HolidayRepository;
+import com.planitsquare.holidayservice.global.exception.BusinessException;
+import com.planitsquare.holidayservice.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 국가별 iCalendar(.ics) 피드.
+ * (연도, 국가) 단위 VEVENT 블록을 한 번 렌더링해 두고, 요청한 연도 범위의 블록을 이어 붙여 gzip 으로 압축한 피드를 메모리에 보관한다.
+ * HolidayDataChangedEvent 범위에 걸리는 블록과 피드만 폐기하므로 변경된 (국가, 연도)만 다시 렌더링된다.
+ * 블록과 피드는 각각 최대 개수를 넘으면 가장 오래 사용하지 않은 것부터 제거하고, 공휴일이 없는 연도의 블록은 보관하지 않는다.
+ */
+@Service
+@Slf4j
+public class HolidayFeedService {
+
+    private static final int MAX_YEAR_SPAN = 20;
+
+    private final HolidayRepository holidayRepository;
+    private final CountryRepository countryRepository;
+    private final int defaultFromYear;
+    private final int defaultToYear;
+    private final int maxFeeds;
+    private final int maxBlocks;
+    // 메모리에 있는 피드는 트랜잭션 없이 응답하고, 렌더링할 때만 읽기 전용 트랜잭션을 연다
+    private final TransactionTemplate readOnlyTx;
+
+    private final LinkedHashMap<HolidayPartition, byte[]> blocks;
+    private final LinkedHashMap<FeedKey, HolidayFeed> feeds;
+    // 렌더링 도중 데이터가 바뀌었는지 판단하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public HolidayFeedService(
+        HolidayRepository holidayRepository,
+        CountryRepository countryRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${holiday.feed.default-from-year:2020}") int defaultFromYear,
+        @Value("${holiday.feed.default-to-year:2025}") int defaultToYear,
+        @Value("${holiday.feed.max-feeds:512}") int maxFeeds,
+        @Value("${holiday.feed.max-blocks:4096}") int maxBlocks
+    ) {
+        this.holidayRepository = holidayRepository;
+        this.countryRepository = countryRepository;
+        this.defaultFromYear = defaultFromYear;
+        this.defaultToYear = defaultToYear;
+        this.maxFeeds = maxFeeds;
+        this.maxBlocks = maxBlocks;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.blocks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<HolidayPartition, byte[]> eldest) {
+                return size() > HolidayFeedService.this.maxBlocks;
+            }
+        };
+        this.feeds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FeedKey, HolidayFeed> eldest) {
+                return size() > HolidayFeedService.this.maxFeeds;
+            }
+        };
+    }
+
+    public HolidayFeed feed(String countryCode, Integer fromYear, Integer toYear) {
+        int from = fromYear != null ? fromYear : defaultFromYear;
+        int to = toYear != null ? toYear : defaultToYear;
+        if (from > to || to - from >= MAX_YEAR_SPAN) {
+            throw new BusinessException(
+                ErrorCode.INVALID_REQUEST,
+                "연도 범위가 유효하지 않습니다. (최대 " + MAX_YEAR_SPAN + "년) fromYear=" + from + ", toYear=" + to
+            );
+        }
+
+        FeedKey key = new FeedKey(countryCode, from, to);
+        synchronized (feeds) {
+            HolidayFeed cached = feeds.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        long generationAtLoad = generation.get();
+        byte[] body = readOnlyTx.execute(status -> render(countryCode, from, to, generationAtLoad));
+        HolidayFeed feed = new HolidayFeed(gzip(body), etag(body));
+
+        synchronized (feeds) {
+            if (generation.get() == generationAtLoad) {
+                feeds.put(key, feed);
+            }
+        }
+
+        log.info("[HolidayFeed] 피드 생성 - countryCode={}, fromYear={}, toYear={}, bytes={}, gzipped={}, elapsedMs={}",
+            countryCode, from, to, body.length, feed.gzipped().length, System.currentTimeMillis() - start);
+        return feed;
+    }
+
+    private byte[] render(String countryCode, int from, int to, long generationAtLoad) {
+        if (!countryRepository.existsByCode(countryCode)) {
+            throw new BusinessException(
+                ErrorCode.COUNTRY_NOT_FOUND,
+                "존재하지 않는 국가 코드입니다. countryCode=" + countryCode
+            );
+        }
+
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(16 * 1024);
+        raw.writeBytes(IcsRenderer.header(countryCode));
+        for (int year = from; year <= to; year++) {
+            raw.writeBytes(block(new HolidayPartition(year, countryCode), generationAtLoad));
+        }
+        raw.writeBytes(IcsRenderer.footer());
+        return raw.toByteArray();
+    }
+
+    // 검색 캐시와 같이 인덱스·count 캐시(@Order(0)) 갱신 이후에 폐기
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        generation.incrementAndGet();
+        synchronized (blocks) {
+            blocks.keySet().removeIf(event::covers);
+        }
+        synchronized (feeds) {
+            feeds.keySet().removeIf(key -> key.affectedBy(event));
+        }
+    }
+
+    private byte[] block(HolidayPartition partition, long generationAtLoad) {
+        synchronized (blocks) {
+            byte[] cached = blocks.get(partition);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<Holiday> holidays = holidayRepository.findByCountryCodeAndYear(partition.countryCode(), partition.year())
+            .stream()
+            .sorted(Comparator.comparing(Holiday::getDate).thenComparing(Holiday::getId))
+            .toList();
+        byte[] rendered = IcsRenderer.events(partition.countryCode(), holidays, Instant.now());
+
+        // 데이터가 없는 연도(임의의 연도 요청 포함)는 보관하지 않는다
+        if (!holidays.isEmpty()) {
+            synchronized (blocks) {
+                if (generation.get() == generationAtLoad) {
+                    blocks.putIfAbsent(partition, rendered);
+                }
+            }
+        }
+        return rendered;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record FeedKey(String countryCode, int fromYear, int toYear) {
+
+        boolean affectedBy(HolidayDataChangedEvent event) {
+            return (event.countryCode() == null || event.countryCode().equals(countryCode))
+                && (event.year() == null || (fromYear <= event.year() && event.year() <= toYear));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+import com.planitsquare.holidayservice.domain.holiday.HolidaySyncManifest;
+import com.planitsquare.holidayservice.external.nager.NagerApiClient;
+import com.planitsquare.holidayservice.external.nager.NagerCircuitOpenException;
+import com.planitsquare.holidayservice.external.nager.NagerUpstreamGuard;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidaysPayload;
+import com.planitsquare.holidayservice.global.exception.BusinessException;
+import com.planitsquare.holidayservice.global.exception.ErrorCode;
+import com.planitsquare.holidayservice.global.metrics.HolidayMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Nager 공휴일 조회 + 재시도.
+ * 단건 동기화(HolidaySyncService)와 대량 동기화 파이프라인(HolidaySyncPipeline)이 함께 사용한다.
+ *
+ * 재시도는 지수 backoff + full jitter 이며 Retry-After 가 있으면 그 이상 기다린다.
+ * 서킷이 열려 있으면 재시도하지 않고 NagerCircuitOpenException 을 그대로 던져 호출자가 작업을 재스케줄하게 한다.
+ */
+@Component
+@Slf4j
+public class HolidayFetcher {
+
+    private final NagerApiClient nagerApiClient;
+    private final ExecutorService holidayExecutor;
+    private final HolidayMetrics holidayMetrics;
+
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final long maxRetryAfterMs;
+    private final int maxReschedules;
+
+    public HolidayFetcher(
+        NagerApiClient nagerApiClient,
+        @Qualifier("holidayExecutor") ExecutorService holidayExecutor,
+        HolidayMetrics holidayMetrics,
+        @Value("${holiday.nager.retry.max-attempts:4}") int maxAttempts,
+        @Value("${holiday.nager.retry.base-delay-ms:200}") long baseDelayMs,
+        @Value("${holiday.nager.retry.max-delay-ms:5000}") long maxDelayMs,
+        @Value("${holiday.nager.retry.max-retry-after-ms:60000}") long maxRetryAfterMs,
+        @Value("${holiday.nager.circuit.max-reschedules:5}") int maxReschedules
+    ) {
+        this.nagerApiClient = nagerApiClient;
+        this.holidayExecutor = holidayExecutor;
+        this.holidayMetrics = holidayMetrics;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.maxRetryAfterMs = maxRetryAfterMs;
+        this.maxReschedules = maxReschedules;
+    }
+
+    /**
+     * 여러 (연도, 국가)의 전체 본문을 가상 스레드에서 동시에 조회한다.
+     * 실제 동시 요청 수는 NagerUpstreamGuard 가 제한하며, 서킷이 열리면 닫힐 때까지 기다렸다가 다시 조회한다.
+     * 하나라도 최종 실패하면 나머지를 취소하고 그 예외를 던진다.
+     *
+     * @return 요청 순서를 유지한 파티션별 응답
+     */
+    public Map<HolidayPartition, NagerHolidaysPayload> fetchAll(Collection<HolidayPartition> partitions) {
+        List<HolidayPartition> order = new ArrayList<>(partitions);
+        List<Future<NagerHolidaysPayload>> futures = new ArrayList<>(order.size());
+        for (HolidayPartition partition : order) {
+            futures.add(holidayExecutor.submit(() -> fetchRescheduling(partition)));
+        }
+
+        Map<HolidayPartition, NagerHolidaysPayload> payloads = new LinkedHashMap<>(order.size() * 2);
+        try {
+            for (int i = 0; i < order.size(); i++) {
+                payloads.put(order.get(i), futures.get(i).get());
+            }
+            return payloads;
+
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.NAGER_API_ERROR, "Nager.Date API 동시 조회 실패");
+
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.NAGER_API_ERROR, "Nager.Date API 동시 조회 중 인터럽트 발생");
+        }
+    }
+
+    public NagerHolidaysPayload fetchWithRetry(int year, String countryCode, HolidaySyncManifest manifest) {
+        int attempt = 0;
+
+        while (true) {
+            attempt++;
+            try {
+                // 실제 Nager API 호출
+                return manifest == null
+                    ? nagerApiClient.getPublicHolidays(year, countryCode, null, null)
+                    : nagerApiClient.getPublicHolidays(year, countryCode, manifest.getEtag(), manifest.getLastModified());
+
+            } catch (HttpClientErrorException.NotFound e) {
+                log.warn("해당 국가/연도는 API 데이터 없음 (404) - year={}, country={}", year, countryCode);
+                return NagerHolidaysPayload.empty();
+
+            } catch (BusinessException e) {
+                // 서킷 open / 인터럽트는 재시도하지 않는다
+                throw e;
+
+            } catch (RuntimeException e) {
+                Duration retryAfter = NagerUpstreamGuard.retryAfter(e);
+                if (attempt >= maxAttempts || !retryable(e) || retryAfter.toMillis() > maxRetryAfterMs) {
+                    holidayMetrics.recordUpstreamRetry("exhausted");
+                    log.error("Nager API 호출 실패 (재시도 중단) - year={}, countryCode={}, attempt={}, retryAfterMs={}",
+                        year, countryCode, attempt, retryAfter.toMillis(), e);
+                    throw new BusinessException(
+                        ErrorCode.NAGER_API_ERROR,
+                        String.format("Nager.Date API 호출 실패 (year=%d, country=%s, attempt=%d)",
+                            year, countryCode, attempt)
+                    );
+                }
+
+                long delayMs = backoffMillis(attempt, retryAfter);
+                holidayMetrics.recordUpstreamRetry("retry");
+                log.warn("Nager API 호출 실패, 재시도 진행 - year={}, countryCode={}, attempt={}, delayMs={}",
+                    year, countryCode, attempt, delayMs, e);
+
+                sleep(delayMs, "Nager.Date API 재시도 중 인터럽트 발생");
+            }
+        }
+    }
+
+    /**
+     * 서킷 open 으로 실패한 작업을 다시 시도해도 되는지 판단하고, 된다면 서킷이 half-open 될 시각까지 기다린다.
+     *
+     * @param reschedules 이 작업이 지금까지 재스케줄된 횟수 (이번 포함)
+     * @return false 면 재스케줄 한도를 넘었으므로 실패로 처리해야 한다
+     */
+    boolean awaitReschedule(NagerCircuitOpenException e, int reschedules) {
+        if (reschedules > maxReschedules) {
+            return false;
+        }
+        long waitMs = Math.max(0, Duration.between(Instant.now(), e.getRetryAt()).toMillis());
+        // 여러 작업이 동시에 깨어나 half-open 시험 호출에 몰리지 않도록 약간 분산
+        sleep(waitMs + ThreadLocalRandom.current().nextLong(baseDelayMs + 1), "Nager.Date API 서킷 대기 중 인터럽트 발생");
+        return true;
+    }
+
+    private NagerHolidaysPayload fetchRescheduling(HolidayPartition partition) {
+        int reschedules = 0;
+        while (true) {
+            try {
+                // 재동기화는 manifest 와 관계없이 항상 전체 본문을 받아 비교
+                return fetchWithRetry(partition.year(), partition.countryCode(), null);
+            } catch (NagerCircuitOpenException e) {
+                if (!awaitReschedule(e, ++reschedules)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // full jitter: [0, min(maxDelay, baseDelay * 2^(attempt-1))] 중 임의 값, Retry-After 가 더 길면 그 값
+    private long backoffMillis(int attempt, Duration retryAfter) {
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 20));
+        long jittered = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        return Math.max(jittered, retryAfter.toMillis());
+    }
+
+    // 429 / 5xx / 연결·타임아웃 실패만 재시도
+    // 그 외 4xx 와 응답 파싱 실패 등은 다시 보내도 같은 결과 (NagerUpstreamGuard.outcomeOf 와 같은 기준)
+    private static boolean retryable(RuntimeException e) {
+        if (e instanceof RestClientResponseException response) {
+            return response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || response.getStatusCode().is5xxServerError();
+        }
+        return e instanceof ResourceAccessException;
+    }
+
+    private static void sleep(long millis, String interruptedMessage) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.NAGER_API_ERROR, interruptedMessage);
+        }
+    }
+}
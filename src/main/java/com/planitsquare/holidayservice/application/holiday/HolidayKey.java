@@ -0,0 +1,27 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayType;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidayResponse;
+
+import java.time.LocalDate;
+
+/**
+ * 공휴일 중복 판별 키 (date, localName, 유형 집합).
+ * 날짜(epoch-day)와 유형 비트마스크를 long 하나로 묶고 localName 은 원본 문자열을 그대로 참조해
+ * 문자열 연결 없이 객체 하나만 만든다. 유형은 비트마스크이므로 나열 순서와 무관하다.
+ */
+record HolidayKey(long dayAndTypes, String localName) {
+
+    static HolidayKey of(Holiday holiday) {
+        return of(holiday.getDate(), holiday.getLocalName(), holiday.getTypeMask());
+    }
+
+    static HolidayKey of(NagerHolidayResponse dto) {
+        return of(dto.date(), dto.localName(), HolidayType.maskOf(dto.types()));
+    }
+
+    static HolidayKey of(LocalDate date, String localName, int typeMask) {
+        return new HolidayKey((date.toEpochDay() << 32) | (typeMask & 0xFFFFFFFFL), localName);
+    }
+}
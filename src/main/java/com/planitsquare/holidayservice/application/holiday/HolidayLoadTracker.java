@@ -0,0 +1,236 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 초기 적재의 (연도, 국가) 파티션별 상태.
+ *
+ * 적재는 기동을 막지 않고 백그라운드에서 진행되므로, 검색은 이미 적재된 파티션부터 응답하고
+ * readiness(HolidayDataHealthIndicator)는 우선 국가 파티션이 처리된 시점부터 UP 이 된다.
+ * 파이프라인의 HolidaySyncProgress 콜백으로 갱신된다.
+ */
+@Slf4j
+@Component
+public class HolidayLoadTracker implements HolidaySyncProgress {
+
+    public enum Phase { NOT_STARTED, LOADING, COMPLETED, FAILED }
+
+    public enum State { PENDING, LOADED, FAILED }
+
+    /**
+     * 조회 범위 안의 적재 대상 / 적재 완료 파티션 수. 모두 적재되었으면 planned 와 loaded 를 세지 않고 COMPLETE 를 쓴다.
+     */
+    public record Coverage(int planned, int loaded) {
+
+        public static final Coverage COMPLETE = new Coverage(0, 0);
+
+        public boolean complete() {
+            return loaded >= planned;
+        }
+    }
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final List<String> priorityCountries;
+    private final Map<HolidayPartition, State> states = new ConcurrentHashMap<>();
+    // LOADED 가 아닌 파티션 (검색 시 전체를 훑지 않고 부분 적재 여부를 판단하기 위함)
+    private final Set<HolidayPartition> incomplete = ConcurrentHashMap.newKeySet();
+
+    private volatile Phase phase = Phase.NOT_STARTED;
+    private volatile long startedAt;
+
+    public HolidayLoadTracker(
+        @Value("${holiday.init.priority-countries:}") List<String> priorityCountries
+    ) {
+        this.priorityCountries = priorityCountries.stream()
+            .map(String::trim)
+            .filter(code -> !code.isEmpty())
+            .map(code -> code.toUpperCase(Locale.ROOT))
+            .distinct()
+            .toList();
+    }
+
+    public void start() {
+        startedAt = System.currentTimeMillis();
+        phase = Phase.LOADING;
+    }
+
+    public void finish() {
+        phase = Phase.COMPLETED;
+        log.info("[HolidayLoadTracker] 초기 적재 종료 - loaded={}, failed={}, pending={}, elapsedMs={}",
+            count(State.LOADED), count(State.FAILED), count(State.PENDING), System.currentTimeMillis() - startedAt);
+    }
+
+    public void abort() {
+        phase = Phase.FAILED;
+    }
+
+    /**
+     * years × countryCodes 를 적재 순서로 정렬해 반환하고, 처음 보는 파티션은 PENDING 으로 등록한다.
+     * 이미 적재된 파티션(스냅샷 복원 등)은 상태를 유지한다.
+     *
+     * 순서: 우선 국가 → 나머지 국가, 같은 그룹 안에서는 금년도에 가까운 연도(같은 거리면 최근 연도),
+     * 같은 연도 안에서는 설정된 우선순위 → 국가 코드 순
+     */
+    public List<HolidayPartition> plan(Collection<Integer> years, Collection<String> countryCodes) {
+        int currentYear = LocalDate.now(KST).getYear();
+
+        List<HolidayPartition> ordered = new ArrayList<>(years.size() * countryCodes.size());
+        for (Integer year : years) {
+            for (String code : countryCodes) {
+                ordered.add(new HolidayPartition(year, code));
+            }
+        }
+        ordered.sort(Comparator
+            .comparingInt((HolidayPartition p) -> isPriority(p) ? 0 : 1)
+            .thenComparingInt(p -> Math.abs(p.year() - currentYear))
+            .thenComparing(HolidayPartition::year, Comparator.reverseOrder())
+            .thenComparingInt(this::priorityRank)
+            .thenComparing(HolidayPartition::countryCode));
+
+        for (HolidayPartition partition : ordered) {
+            if (states.putIfAbsent(partition, State.PENDING) == null) {
+                incomplete.add(partition);
+            }
+        }
+        return ordered;
+    }
+
+    // 스냅샷 복원처럼 파이프라인을 거치지 않고 적재된 파티션
+    public void loaded(Collection<HolidayPartition> partitions) {
+        for (HolidayPartition partition : partitions) {
+            states.put(partition, State.LOADED);
+            incomplete.remove(partition);
+        }
+    }
+
+    @Override
+    public void succeeded(HolidayPartition partition, int changedRows) {
+        states.put(partition, State.LOADED);
+        incomplete.remove(partition);
+    }
+
+    @Override
+    public void failed(HolidayPartition partition, RuntimeException e) {
+        // 이미 적재된 파티션은 재동기화가 실패해도 기존 데이터로 계속 응답한다
+        State state = states.compute(partition, (key, current) -> current == State.LOADED ? current : State.FAILED);
+        if (state != State.LOADED) {
+            incomplete.add(partition);
+        }
+    }
+
+    /**
+     * 트래픽을 받을 수 있는지 여부.
+     * 우선 국가 파티션이 모두 처리(적재 또는 실패 확정)되고 적재된 파티션이 하나 이상 있어야 한다.
+     * 초기 적재를 하지 않는 구성(NOT_STARTED)은 항상 true.
+     */
+    public boolean isReady() {
+        if (phase == Phase.NOT_STARTED) {
+            return true;
+        }
+        boolean anyLoaded = false;
+        for (Map.Entry<HolidayPartition, State> entry : states.entrySet()) {
+            if (entry.getValue() == State.PENDING && isPriority(entry.getKey())) {
+                return false;
+            }
+            anyLoaded |= entry.getValue() == State.LOADED;
+        }
+        return anyLoaded;
+    }
+
+    /**
+     * 검색 조건 범위의 적재 현황. 기간(from~to)이 있으면 year 는 무시한다 (HolidayRepositoryImpl.yearEq 와 동일).
+     */
+    public Coverage coverage(String countryCode, Integer year, LocalDate from, LocalDate to) {
+        if (incomplete.isEmpty()) {
+            return Coverage.COMPLETE;
+        }
+
+        int fromYear;
+        int toYear;
+        if (from != null && to != null) {
+            fromYear = from.getYear();
+            toYear = to.getYear();
+        } else if (year != null) {
+            fromYear = year;
+            toYear = year;
+        } else {
+            fromYear = Integer.MIN_VALUE;
+            toYear = Integer.MAX_VALUE;
+        }
+        String code = countryCode != null && !countryCode.isBlank() ? countryCode : null;
+
+        boolean missing = false;
+        for (HolidayPartition partition : incomplete) {
+            if (inScope(partition, code, fromYear, toYear)) {
+                missing = true;
+                break;
+            }
+        }
+        if (!missing) {
+            return Coverage.COMPLETE;
+        }
+
+        int planned = 0;
+        int loaded = 0;
+        for (Map.Entry<HolidayPartition, State> entry : states.entrySet()) {
+            if (inScope(entry.getKey(), code, fromYear, toYear)) {
+                planned++;
+                if (entry.getValue() == State.LOADED) {
+                    loaded++;
+                }
+            }
+        }
+        return new Coverage(planned, loaded);
+    }
+
+    public Phase phase() {
+        return phase;
+    }
+
+    public List<String> priorityCountries() {
+        return priorityCountries;
+    }
+
+    public int count(State state) {
+        int count = 0;
+        for (State s : states.values()) {
+            if (s == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 국가 코드 → (연도 → 상태), 국가·연도 순으로 정렬된 복사본
+     */
+    public Map<String, Map<Integer, State>> states() {
+        Map<String, Map<Integer, State>> byCountry = new TreeMap<>();
+        states.forEach((partition, state) ->
+            byCountry.computeIfAbsent(partition.countryCode(), k -> new TreeMap<>()).put(partition.year(), state));
+        return byCountry;
+    }
+
+    private boolean isPriority(HolidayPartition partition) {
+        return priorityCountries.contains(partition.countryCode());
+    }
+
+    private int priorityRank(HolidayPartition partition) {
+        int rank = priorityCountries.indexOf(partition.countryCode());
+        return rank < 0 ? Integer.MAX_VALUE : rank;
+    }
+
+    private static boolean inScope(HolidayPartition partition, String countryCode, int fromYear, int toYear) {
+        return (countryCode == null || countryCode.equals(partition.countryCode()))
+            && partition.year() >= fromYear && partition.year() <= toYear;
+    }
+}
@@ -0,0 +1,16 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+/**
+ * 공휴일 검색 페이징 방식
+ */
+public enum HolidayPagingMode {
+
+    // page/size 기반 offset 페이징 (전체 건수 포함)
+    OFFSET,
+
+    // page/size 기반이지만 count 없이 다음 페이지 존재 여부만 포함
+    SLICE,
+
+    // (date, id) seek 기반 커서 페이징. 깊은 페이지도 첫 페이지와 같은 비용
+    CURSOR
+}
@@ -1,44 +1,48 @@
 package com.planitsquare.holidayservice.application.holiday;
 
-import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayDataVersions;
 import com.planitsquare.holidayservice.domain.holiday.HolidayRepository;
+import com.planitsquare.holidayservice.domain.holiday.HolidayView;
 import com.planitsquare.holidayservice.global.api.PageResponse;
 import com.planitsquare.holidayservice.global.exception.BusinessException;
 import com.planitsquare.holidayservice.global.exception.ErrorCode;
 import com.planitsquare.holidayservice.presentation.dto.HolidayResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.util.StringUtils.hasText;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class HolidayQueryService {
 
+    // 트랜잭션을 걸지 않는다: 캐시 hit 와 인메모리 인덱스 응답은 커넥션을 빌리지 않고,
+    // DB 로 조회하는 경우에만 HolidayRepositoryImpl 이 읽기 전용 트랜잭션을 연다
+
     private final HolidayRepository holidayRepository;
+    private final HolidayDataVersions holidayDataVersions;
+    private final HolidaySearchCache holidaySearchCache;
 
 
 
-    @Transactional(readOnly = true)
     public PageResponse<HolidayResponse> search(HolidaySearchCond cond, Pageable pageable) {
 
         long start = System.currentTimeMillis();
 
         try {
 
-            if (cond == null || (cond.getCountryCode() == null && cond.getYear() == null)) {
-                throw new BusinessException(
-                    ErrorCode.INVALID_SEARCH_CONDITION,
-                    "검색 조건으로 countryCode 또는 year 중 하나는 반드시 존재해야 합니다."
-                );
-            }
+            validate(cond);
+
+            HolidaySearchCache.Key key = HolidaySearchCache.Key.of(
+                cond, HolidayPagingMode.OFFSET, pageable.getPageNumber(), pageable.getPageSize(), null);
 
-            Page<Holiday> holidays = holidayRepository.searchHolidays(cond, pageable);
-            Page<HolidayResponse> map = holidays.map(HolidayResponse::from);
-            return PageResponse.from(map);
+            // 엔티티를 거치지 않고 projection 으로 조회해 응답 DTO 로 변환
+            return holidaySearchCache.get(key, () ->
+                PageResponse.from(holidayRepository.searchHolidayViews(cond, pageable).map(HolidayResponse::from)));
 
         } finally {
             long end = System.currentTimeMillis();
@@ -52,5 +56,95 @@ public class HolidayQueryService {
         }
     }
 
+    /**
+     * count 쿼리 없이 다음 페이지 존재 여부만 판단하는 슬라이스 조회.
+     */
+    public PageResponse<HolidayResponse> searchSlice(HolidaySearchCond cond, Pageable pageable) {
+
+        long start = System.currentTimeMillis();
+
+        try {
+            validate(cond);
+
+            HolidaySearchCache.Key key = HolidaySearchCache.Key.of(
+                cond, HolidayPagingMode.SLICE, pageable.getPageNumber(), pageable.getPageSize(), null);
+
+            return holidaySearchCache.get(key, () ->
+                PageResponse.ofSlice(holidayRepository.searchHolidayViewSlice(cond, pageable).map(HolidayResponse::from)));
+
+        } finally {
+            long end = System.currentTimeMillis();
+            log.info(
+                "[HolidaySearch] cond={}, slice pageNumber={}, pageSize={}, elapsedMs={}",
+                cond,
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                (end - start)
+            );
+        }
+    }
+
+    /**
+     * (date, id) seek 기반 커서 페이징. offset 스캔과 count 쿼리 없이 다음 size 건을 조회한다.
+     */
+    public PageResponse<HolidayResponse> searchByCursor(HolidaySearchCond cond, String cursorToken, int size) {
+
+        long start = System.currentTimeMillis();
+
+        try {
+            validate(cond);
+
+            HolidayCursor cursor = HolidayCursor.decode(cursorToken);
+            HolidaySearchCache.Key key = HolidaySearchCache.Key.of(
+                cond, HolidayPagingMode.CURSOR, 0, size, cursor != null ? cursor.encode() : null);
+
+            return holidaySearchCache.get(key, () -> {
+                Slice<HolidayView> holidays = holidayRepository.searchHolidayViewsAfter(cond, cursor, size);
+
+                String nextCursor = null;
+                if (holidays.hasNext()) {
+                    HolidayView last = holidays.getContent().get(holidays.getNumberOfElements() - 1);
+                    nextCursor = new HolidayCursor(last.date(), last.id()).encode();
+                }
+                return PageResponse.ofCursor(holidays.map(HolidayResponse::from), cursor == null, nextCursor);
+            });
+
+        } finally {
+            long end = System.currentTimeMillis();
+            log.info(
+                "[HolidaySearch] cond={}, cursor={}, pageSize={}, elapsedMs={}",
+                cond,
+                cursorToken,
+                size,
+                (end - start)
+            );
+        }
+    }
+
+    public HolidaySearchCacheStats cacheStats() {
+        return holidaySearchCache.stats();
+    }
+
+    /**
+     * 검색 조건이 걸치는 (countryCode, year) 범위의 현재 데이터 버전. 저장소는 조회하지 않는다.
+     * 기간(from~to) 조건이 있으면 year 조건이 무시되므로 연도 전체를 범위로 본다.
+     */
+    public HolidayDataVersions.Version dataVersion(HolidaySearchCond cond) {
+        validate(cond);
+
+        Integer year = (cond.getFrom() != null && cond.getTo() != null) ? null : cond.getYear();
+        String countryCode = hasText(cond.getCountryCode()) ? cond.getCountryCode() : null;
+        return holidayDataVersions.current(year, countryCode);
+    }
+
+    private void validate(HolidaySearchCond cond) {
+        if (cond == null || (cond.getCountryCode() == null && cond.getYear() == null)) {
+            throw new BusinessException(
+                ErrorCode.INVALID_SEARCH_CONDITION,
+                "검색 조건으로 countryCode 또는 year 중 하나는 반드시 존재해야 합니다."
+            );
+        }
+    }
+
 
 }
@@ -0,0 +1,33 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+/**
+ * 재동기화 결과 (실제로 반영된 변경분)
+ *
+ * @param partitions 재동기화한 (연도, 국가) 수
+ * @param inserted   새로 추가된 공휴일 수
+ * @param updated    이름 등 속성이 바뀐 공휴일 수
+ * @param deleted    upstream 에서 사라져 삭제된 공휴일 수
+ * @param unchanged  변경 없는 공휴일 수
+ */
+public record HolidayRefreshResult(
+    int partitions,
+    int inserted,
+    int updated,
+    int deleted,
+    int unchanged
+) {
+
+    static HolidayRefreshResult empty() {
+        return new HolidayRefreshResult(0, 0, 0, 0, 0);
+    }
+
+    HolidayRefreshResult plus(HolidayChangeSet changes) {
+        return new HolidayRefreshResult(
+            partitions + 1,
+            inserted + changes.toInsert().size(),
+            updated + changes.updated(),
+            deleted + changes.toDelete().size(),
+            unchanged + changes.unchanged()
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.holiday.HolidayDataChangedEvent;
+import com.planitsquare.holidayservice.global.api.PageResponse;
+import com.planitsquare.holidayservice.presentation.dto.HolidayResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 캐시. (정규화된 조건, 페이징 방식, 페이지, 크기, 커서) 단위로 PageResponse 를 보관한다.
+ * 최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목부터, TTL 이 지난 항목은 조회 시점에 제거하고
+ * HolidayDataChangedEvent 범위에 걸리는 항목만 폐기한다.
+ */
+@Component
+public class HolidaySearchCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<Key, Entry> entries;
+    // 조회 도중 데이터가 바뀌었는지 판단하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public HolidaySearchCache(
+        @Value("${holiday.search-cache.enabled:true}") boolean enabled,
+        @Value("${holiday.search-cache.max-entries:10000}") int maxEntries,
+        @Value("${holiday.search-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > HolidaySearchCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public PageResponse<HolidayResponse> get(Key key, Supplier<PageResponse<HolidayResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    hits.increment();
+                    return cached.value();
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+
+        long generationAtLoad = generation.get();
+        PageResponse<HolidayResponse> value = loader.get();
+
+        synchronized (entries) {
+            if (generation.get() == generationAtLoad) {
+                entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return value;
+    }
+
+    public HolidaySearchCacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new HolidaySearchCacheStats(size, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    // 인덱스·count 캐시(@Order(0))가 파티션을 다시 읽은 뒤에 폐기해야,
+    // 폐기 직후의 미스가 이전 인덱스 결과를 새 세대로 캐시하지 않는다
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            Iterator<Key> it = entries.keySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().affectedBy(event)) {
+                    it.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param cond   정규화된 검색 조건
+     * @param page   OFFSET / SLICE 의 페이지 번호 (CURSOR 면 0)
+     * @param cursor CURSOR 페이징의 커서 토큰
+     */
+    public record Key(HolidaySearchCond cond, HolidayPagingMode paging, int page, int size, String cursor) {
+
+        public static Key of(HolidaySearchCond cond, HolidayPagingMode paging, int page, int size, String cursor) {
+            return new Key(cond.normalized(), paging, page, size, cursor);
+        }
+
+        boolean affectedBy(HolidayDataChangedEvent event) {
+            String countryCode = cond.getCountryCode();
+            return coversYear(event.year())
+                && (event.countryCode() == null || countryCode == null || countryCode.equals(event.countryCode()));
+        }
+
+        private boolean coversYear(Integer eventYear) {
+            if (eventYear == null) {
+                return true;
+            }
+            // 기간 조건은 from~to 에 걸친 연도만 영향을 받는다
+            if (cond.getFrom() != null) {
+                return cond.getFrom().getYear() <= eventYear && eventYear <= cond.getTo().getYear();
+            }
+            return cond.getYear() == null || cond.getYear().equals(eventYear);
+        }
+    }
+
+    private record Entry(PageResponse<HolidayResponse> value, long expiresAt) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+/**
+ * 검색 결과 캐시 통계
+ *
+ * @param size          현재 보관 중인 항목 수
+ * @param hits          캐시 적중 수
+ * @param misses        캐시 미스 수
+ * @param evictions     용량 초과(LRU) 또는 TTL 만료로 제거된 수
+ * @param invalidations 데이터 변경 이벤트로 폐기된 수
+ */
+public record HolidaySearchCacheStats(
+    int size,
+    long hits,
+    long misses,
+    long evictions,
+    long invalidations
+) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -1,12 +1,18 @@
 package com.planitsquare.holidayservice.application.holiday;
 
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.ToString;
 
 import java.time.LocalDate;
 
+import static org.springframework.util.StringUtils.hasText;
+
 @Getter
 @Builder
+@EqualsAndHashCode
+@ToString
 public class HolidaySearchCond {
 
     private final String countryCode;
@@ -20,5 +26,19 @@ public class HolidaySearchCond {
     private final String type;
 
 
-
+    /**
+     * 검색 결과가 같은 조건끼리 같은 값이 되도록 정규화한다.
+     * - 빈 문자열 countryCode / type 은 조건 없음(null)
+     * - from, to 가 모두 있으면 year 는 무시되므로 null, 하나만 있으면 기간 조건이 무시되므로 둘 다 null
+     */
+    public HolidaySearchCond normalized() {
+        boolean ranged = from != null && to != null;
+        return HolidaySearchCond.builder()
+            .countryCode(hasText(countryCode) ? countryCode : null)
+            .year(ranged ? null : year)
+            .from(ranged ? from : null)
+            .to(ranged ? to : null)
+            .type(hasText(type) ? type : null)
+            .build();
+    }
 }
@@ -0,0 +1,230 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidaySyncManifest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 국가·공휴일·동기화 manifest 스냅샷 바이너리 포맷. 전체를 gzip 으로 압축하며 무결성은 gzip CRC32 로 확인한다.
+ *
+ * <pre>
+ * header   : magic "HSNP"(int) | formatVersion(short) | createdAt epoch-milli(long) | countryCount(int)
+ * country  : code(UTF) | name(UTF) | used(boolean)                                   × countryCount
+ * holiday  : countryIndex(short) | epochDay(int) | flags(byte) | localName(UTF)
+ *            | [name(UTF)] | [launchYear(short)] | typeMask(byte)                    × N
+ * trailer  : -1(short) | holidayCount(int)
+ * manifest : manifestCount(int)
+ *            | year(int) | countryCode(UTF) | fields(byte) | [payloadHash(UTF)]
+ *            | [etag(UTF)] | [lastModified(UTF)] | lastSyncedAt UTC epoch-second(long) × manifestCount
+ *
+ * flags    : 1 = fixed, 2 = global, 4 = name 이 localName 과 같음(name 생략), 8 = launchYear 있음
+ * fields   : 1 = payloadHash 있음, 2 = etag 있음, 4 = lastModified 있음
+ * </pre>
+ *
+ * 버전 2 부터 manifest 를 함께 저장해, 복원 직후의 동기화도 조건부 요청(If-None-Match / If-Modified-Since)을 보낸다.
+ */
+final class HolidaySnapshotCodec {
+
+    static final int MAGIC = 0x48534E50;
+    static final short FORMAT_VERSION = 2;
+
+    private static final int FIXED = 1;
+    private static final int GLOBAL = 2;
+    private static final int SAME_NAME = 4;
+    private static final int HAS_LAUNCH_YEAR = 8;
+    private static final int HAS_HASH = 1;
+    private static final int HAS_ETAG = 2;
+    private static final int HAS_LAST_MODIFIED = 4;
+    private static final short END = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private HolidaySnapshotCodec() {
+    }
+
+    record Snapshot(Instant createdAt, List<Country> countries, List<Holiday> holidays, List<HolidaySyncManifest> manifests) {
+    }
+
+    /**
+     * @param holidays country 가 함께 로딩된 공휴일
+     * @return 기록한 공휴일 수
+     */
+    static int write(
+        OutputStream out,
+        List<Country> countries,
+        Iterator<Holiday> holidays,
+        List<HolidaySyncManifest> manifests
+    ) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(new BufferedOutputStream(out, BUFFER_SIZE), BUFFER_SIZE);
+        DataOutputStream data = new DataOutputStream(gzip);
+
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        data.writeLong(System.currentTimeMillis());
+        data.writeInt(countries.size());
+
+        Map<Long, Integer> countryIndex = new HashMap<>(countries.size() * 2);
+        for (Country country : countries) {
+            countryIndex.put(country.getId(), countryIndex.size());
+            data.writeUTF(country.getCode());
+            data.writeUTF(country.getName());
+            data.writeBoolean(country.isUsed());
+        }
+
+        int count = 0;
+        while (holidays.hasNext()) {
+            Holiday holiday = holidays.next();
+            boolean sameName = Objects.equals(holiday.getName(), holiday.getLocalName());
+
+            int flags = (holiday.isFixed() ? FIXED : 0)
+                | (holiday.isGlobalHoliday() ? GLOBAL : 0)
+                | (sameName ? SAME_NAME : 0)
+                | (holiday.getLaunchYear() != null ? HAS_LAUNCH_YEAR : 0);
+
+            data.writeShort(countryIndex.get(holiday.getCountry().getId()));
+            data.writeInt((int) holiday.getDate().toEpochDay());
+            data.writeByte(flags);
+            data.writeUTF(holiday.getLocalName());
+            if (!sameName) {
+                data.writeUTF(holiday.getName());
+            }
+            if (holiday.getLaunchYear() != null) {
+                data.writeShort(holiday.getLaunchYear());
+            }
+            data.writeByte(holiday.getTypeMask());
+            count++;
+        }
+
+        data.writeShort(END);
+        data.writeInt(count);
+
+        data.writeInt(manifests.size());
+        for (HolidaySyncManifest manifest : manifests) {
+            int fields = (manifest.getPayloadHash() != null ? HAS_HASH : 0)
+                | (manifest.getEtag() != null ? HAS_ETAG : 0)
+                | (manifest.getLastModified() != null ? HAS_LAST_MODIFIED : 0);
+
+            data.writeInt(manifest.getYear());
+            data.writeUTF(manifest.getCountryCode());
+            data.writeByte(fields);
+            if (manifest.getPayloadHash() != null) {
+                data.writeUTF(manifest.getPayloadHash());
+            }
+            if (manifest.getEtag() != null) {
+                data.writeUTF(manifest.getEtag());
+            }
+            if (manifest.getLastModified() != null) {
+                data.writeUTF(manifest.getLastModified());
+            }
+            data.writeLong(manifest.getLastSyncedAt().toEpochSecond(ZoneOffset.UTC));
+        }
+        data.flush();
+        gzip.finish();
+        gzip.flush();
+        return count;
+    }
+
+    /**
+     * 스냅샷 전체를 한 번에 순차로 읽어 저장 전(transient) 엔티티로 복원한다.
+     *
+     * @throws IOException 형식이 다르거나(매직/버전 불일치) 손상된 경우
+     */
+    static Snapshot read(InputStream in) throws IOException {
+        try {
+            return readSnapshot(new DataInputStream(
+                new GZIPInputStream(new BufferedInputStream(in, BUFFER_SIZE), BUFFER_SIZE)));
+        } catch (RuntimeException e) {
+            // 손상된 본문이 CRC 검증 전에 범위 밖 국가 index / 날짜 등으로 읽힌 경우
+            throw new IOException("손상된 스냅샷입니다. reason=" + e.getMessage(), e);
+        }
+    }
+
+    private static Snapshot readSnapshot(DataInputStream data) throws IOException {
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException("공휴일 스냅샷 형식이 아닙니다.");
+        }
+        short version = data.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다. version=" + version + ", expected=" + FORMAT_VERSION);
+        }
+        Instant createdAt = Instant.ofEpochMilli(data.readLong());
+
+        int countryCount = data.readInt();
+        // 국가 index 는 short 로 기록되므로 그 범위를 넘는 값은 손상으로 본다 (손상된 값으로 큰 목록을 할당하지 않도록)
+        if (countryCount < 0 || countryCount > Short.MAX_VALUE) {
+            throw new IOException("손상된 스냅샷입니다. countryCount=" + countryCount);
+        }
+        List<Country> countries = new ArrayList<>(countryCount);
+        for (int i = 0; i < countryCount; i++) {
+            Country country = new Country(data.readUTF(), data.readUTF());
+            country.markSupported(data.readBoolean());
+            countries.add(country);
+        }
+
+        List<Holiday> holidays = new ArrayList<>();
+        while (true) {
+            short index = data.readShort();
+            if (index == END) {
+                break;
+            }
+            LocalDate date = LocalDate.ofEpochDay(data.readInt());
+            int flags = data.readUnsignedByte();
+            String localName = data.readUTF();
+            String name = (flags & SAME_NAME) != 0 ? localName : data.readUTF();
+            Integer launchYear = (flags & HAS_LAUNCH_YEAR) != 0 ? (int) data.readShort() : null;
+            int typeMask = data.readUnsignedByte();
+
+            holidays.add(Holiday.create(
+                countries.get(index), date, localName, name,
+                (flags & FIXED) != 0, (flags & GLOBAL) != 0, launchYear, typeMask
+            ));
+        }
+
+        int expected = data.readInt();
+        if (expected != holidays.size()) {
+            throw new IOException("스냅샷 공휴일 수가 일치하지 않습니다. expected=" + expected + ", actual=" + holidays.size());
+        }
+
+        int manifestCount = data.readInt();
+        // manifest 는 (연도, 국가)마다 하나이므로 국가 수 × 연도 범위를 넘는 값은 손상으로 본다
+        if (manifestCount < 0 || manifestCount > countryCount * 1000) {
+            throw new IOException("손상된 스냅샷입니다. manifestCount=" + manifestCount);
+        }
+        List<HolidaySyncManifest> manifests = new ArrayList<>(manifestCount);
+        for (int i = 0; i < manifestCount; i++) {
+            HolidaySyncManifest manifest = new HolidaySyncManifest(data.readInt(), data.readUTF());
+            int fields = data.readUnsignedByte();
+            String payloadHash = (fields & HAS_HASH) != 0 ? data.readUTF() : null;
+            String etag = (fields & HAS_ETAG) != 0 ? data.readUTF() : null;
+            String lastModified = (fields & HAS_LAST_MODIFIED) != 0 ? data.readUTF() : null;
+            LocalDateTime lastSyncedAt = LocalDateTime.ofEpochSecond(data.readLong(), 0, ZoneOffset.UTC);
+            manifest.record(payloadHash, etag, lastModified, lastSyncedAt);
+            manifests.add(manifest);
+        }
+        // 스트림 끝까지 읽어야 gzip CRC 검증이 수행된다
+        if (data.read() != -1) {
+            throw new IOException("스냅샷 끝에 알 수 없는 데이터가 있습니다.");
+        }
+        return new Snapshot(createdAt, countries, holidays, manifests);
+    }
+}
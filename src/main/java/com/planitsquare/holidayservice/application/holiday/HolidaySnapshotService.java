@@ -0,0 +1,170 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.country.CountryRepository;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayDataChangedEvent;
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+import com.planitsquare.holidayservice.domain.holiday.HolidayRepository;
+import com.planitsquare.holidayservice.domain.holiday.HolidaySyncManifestRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 국가·공휴일·동기화 manifest 로컬 스냅샷.
+ * 동기화가 끝나면 전체를 압축 바이너리(HolidaySnapshotCodec)로 저장해 두고,
+ * 다음 기동 시 네트워크 호출 없이 파일 한 번 순차 읽기 + 배치 insert 로 복원한다.
+ * manifest 도 복원되므로 뒤이은 백그라운드 동기화는 조건부 요청으로 변경 없는 파티션을 건너뛴다.
+ */
+@Slf4j
+@Service
+public class HolidaySnapshotService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final CountryRepository countryRepository;
+    private final HolidayRepository holidayRepository;
+    private final HolidaySyncManifestRepository manifestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager em;
+    private final HolidayLoadTracker holidayLoadTracker;
+    private final boolean enabled;
+    private final Path path;
+
+    public HolidaySnapshotService(
+        CountryRepository countryRepository,
+        HolidayRepository holidayRepository,
+        HolidaySyncManifestRepository manifestRepository,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher,
+        EntityManager em,
+        HolidayLoadTracker holidayLoadTracker,
+        @Value("${holiday.snapshot.enabled:true}") boolean enabled,
+        @Value("${holiday.snapshot.path:data/holiday-snapshot.bin}") String path
+    ) {
+        this.countryRepository = countryRepository;
+        this.holidayRepository = holidayRepository;
+        this.manifestRepository = manifestRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.em = em;
+        this.holidayLoadTracker = holidayLoadTracker;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+    }
+
+    /**
+     * 스냅샷 파일이 있으면 국가·공휴일을 적재한다.
+     * 파일이 없거나, 형식·버전이 다르거나 손상되었으면 아무것도 적재하지 않고 false 를 반환한다.
+     */
+    public boolean restore() {
+        if (!enabled || !Files.isReadable(path)) {
+            return false;
+        }
+        if (countryRepository.count() > 0) {
+            log.warn("[HolidaySnapshot] 이미 국가 데이터가 있어 스냅샷 적재를 건너뜀 - path={}", path);
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        HolidaySnapshotCodec.Snapshot snapshot;
+        try (InputStream in = Files.newInputStream(path)) {
+            snapshot = HolidaySnapshotCodec.read(in);
+        } catch (IOException e) {
+            log.warn("[HolidaySnapshot] 스냅샷을 읽을 수 없어 무시 - path={}, reason={}", path, e.getMessage());
+            return false;
+        }
+        long readAt = System.currentTimeMillis();
+
+        // 국가 → 공휴일 → manifest 순서로 배치 insert, 커밋 후 캐시·인덱스는 전체 범위 이벤트 한 번으로 갱신
+        transactionTemplate.executeWithoutResult(status -> {
+            countryRepository.saveAll(snapshot.countries());
+            holidayRepository.saveAll(snapshot.holidays());
+            manifestRepository.saveAll(snapshot.manifests());
+            eventPublisher.publishEvent(new HolidayDataChangedEvent(null, null));
+        });
+
+        Set<HolidayPartition> partitions = new HashSet<>();
+        for (Holiday holiday : snapshot.holidays()) {
+            partitions.add(new HolidayPartition(holiday.getYear(), holiday.getCountry().getCode()));
+        }
+        holidayLoadTracker.loaded(partitions);
+
+        log.info("[HolidaySnapshot] 스냅샷 적재 완료 - path={}, createdAt={}, countries={}, holidays={}, manifests={}, readMs={}, insertMs={}",
+            path, snapshot.createdAt(), snapshot.countries().size(), snapshot.holidays().size(), snapshot.manifests().size(),
+            readAt - start, System.currentTimeMillis() - readAt);
+        return true;
+    }
+
+    /**
+     * 현재 DB 의 국가·공휴일·manifest 전체를 스냅샷으로 저장한다.
+     * 임시 파일에 쓴 뒤 교체하므로 저장 도중 종료되어도 이전 스냅샷은 유지된다.
+     */
+    @Transactional(readOnly = true)
+    public void save() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            int written;
+            try (OutputStream out = Files.newOutputStream(temp);
+                 Stream<Holiday> holidays = holidayRepository.streamHolidays(null, null, FETCH_SIZE)) {
+                // manifest 는 (연도, 국가)당 한 행이므로 한 번에 읽는다
+                written = HolidaySnapshotCodec.write(out, countryRepository.findAll(), clearingEvery(holidays.iterator()),
+                    manifestRepository.findAll());
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("[HolidaySnapshot] 스냅샷 저장 완료 - path={}, holidays={}, bytes={}, elapsedMs={}",
+                path, written, Files.size(path), System.currentTimeMillis() - start);
+
+        } catch (IOException e) {
+            // 스냅샷은 기동 가속용이므로 저장 실패가 서비스 동작을 막지 않는다
+            log.warn("[HolidaySnapshot] 스냅샷 저장 실패 - path={}", path, e);
+        }
+    }
+
+    // FETCH_SIZE 건마다 기록을 마친 엔티티를 영속성 컨텍스트에서 분리 (전체 공휴일이 메모리에 쌓이지 않도록)
+    private Iterator<Holiday> clearingEvery(Iterator<Holiday> it) {
+        return new Iterator<>() {
+            private long rows;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Holiday next() {
+                if (rows > 0 && rows % FETCH_SIZE == 0) {
+                    em.clear();
+                }
+                rows++;
+                return it.next();
+            }
+        };
+    }
+}
@@ -0,0 +1,181 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.application.holiday.HolidaySyncJobStatus.State;
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 비동기 동기화 작업 하나의 대상과 진행 상태.
+ * 진행 콜백(HolidaySyncProgress)은 여러 스레드에서 호출되므로 카운터는 모두 원자 변수로 관리한다.
+ */
+final class HolidaySyncJob implements HolidaySyncProgress {
+
+    private final String id;
+    private final HolidaySyncJobType type;
+    private final List<Integer> years;
+    private final List<Country> countries;
+    private final List<HolidayPartition> partitions;
+    private final Instant createdAt = Instant.now();
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+    private final Set<HolidayPartition> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicLong changedRows = new AtomicLong();
+    private final Queue<String> failedPartitions = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean cancelRequested;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String message;
+
+    HolidaySyncJob(String id, HolidaySyncJobType type, List<Integer> years, List<Country> countries) {
+        this.id = id;
+        this.type = type;
+        this.years = List.copyOf(years);
+        this.countries = List.copyOf(countries);
+
+        List<HolidayPartition> list = new ArrayList<>(years.size() * countries.size());
+        for (Integer year : years) {
+            for (Country country : countries) {
+                list.add(new HolidayPartition(year, country.getCode()));
+            }
+        }
+        this.partitions = List.copyOf(list);
+    }
+
+    String id() {
+        return id;
+    }
+
+    HolidaySyncJobType type() {
+        return type;
+    }
+
+    List<Country> countries() {
+        return countries;
+    }
+
+    List<HolidayPartition> partitions() {
+        return partitions;
+    }
+
+    boolean isFinished() {
+        return state.get().finished();
+    }
+
+    boolean isQueued() {
+        return state.get() == State.QUEUED;
+    }
+
+    /**
+     * QUEUED → RUNNING. 대기 중에 취소되었으면 false.
+     */
+    boolean start() {
+        if (!state.compareAndSet(State.QUEUED, State.RUNNING)) {
+            return false;
+        }
+        startedAt = Instant.now();
+        return true;
+    }
+
+    /**
+     * 취소 요청. 대기 중이면 바로 CANCELLED, 실행 중이면 시작하지 않은 파티션을 건너뛰고 진행 중인 파티션이 끝나면 종료된다.
+     */
+    void cancel() {
+        cancelRequested = true;
+        if (state.compareAndSet(State.QUEUED, State.CANCELLED)) {
+            finishedAt = Instant.now();
+        }
+    }
+
+    void complete() {
+        State result;
+        if (cancelRequested) {
+            result = State.CANCELLED;
+        } else if (failed.get() > 0) {
+            result = State.PARTIALLY_FAILED;
+        } else {
+            result = State.SUCCEEDED;
+        }
+        finish(result, null);
+    }
+
+    void fail(String message) {
+        finish(State.FAILED, message);
+    }
+
+    private void finish(State result, String message) {
+        this.message = message;
+        this.finishedAt = Instant.now();
+        state.set(result);
+    }
+
+    @Override
+    public void started(HolidayPartition partition) {
+        inFlight.add(partition);
+    }
+
+    @Override
+    public void succeeded(HolidayPartition partition, int changedRows) {
+        inFlight.remove(partition);
+        succeeded.incrementAndGet();
+        this.changedRows.addAndGet(changedRows);
+    }
+
+    @Override
+    public void failed(HolidayPartition partition, RuntimeException e) {
+        inFlight.remove(partition);
+        failed.incrementAndGet();
+        failedPartitions.add(partition.year() + "-" + partition.countryCode());
+    }
+
+    @Override
+    public boolean cancelled() {
+        return cancelRequested;
+    }
+
+    HolidaySyncJobStatus status() {
+        Instant started = startedAt;
+        Instant finished = finishedAt;
+        long elapsedMs = started == null ? 0 : (finished != null ? finished : Instant.now()).toEpochMilli() - started.toEpochMilli();
+
+        int done = succeeded.get();
+        int failures = failed.get();
+        int running = inFlight.size();
+        long rows = changedRows.get();
+
+        return new HolidaySyncJobStatus(
+            id,
+            type,
+            state.get(),
+            years,
+            countries.stream().map(Country::getCode).toList(),
+            partitions.size(),
+            done,
+            failures,
+            running,
+            Math.max(0, partitions.size() - done - failures - running),
+            rows,
+            elapsedMs > 0 ? (done + failures) * 1000.0 / elapsedMs : 0.0,
+            elapsedMs > 0 ? rows * 1000 / elapsedMs : 0,
+            createdAt,
+            started,
+            finished,
+            elapsedMs,
+            List.copyOf(failedPartitions),
+            message
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import java.util.List;
+
+/**
+ * 비동기 동기화 작업 요청. 대상은 연도 집합 × 국가 집합.
+ *
+ * @param type         SYNC(기본) | REFRESH
+ * @param years        대상 연도 목록. 있으면 fromYear / toYear 는 무시
+ * @param fromYear     대상 연도 범위 시작 (toYear 와 함께, 양 끝 포함)
+ * @param toYear       대상 연도 범위 끝
+ * @param countryCodes 대상 국가 코드. 비어 있으면 사용 중인 국가 전체
+ */
+public record HolidaySyncJobRequest(
+    HolidaySyncJobType type,
+    List<Integer> years,
+    Integer fromYear,
+    Integer toYear,
+    List<String> countryCodes
+) {
+}
@@ -0,0 +1,273 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.country.CountryRepository;
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+import com.planitsquare.holidayservice.global.exception.BusinessException;
+import com.planitsquare.holidayservice.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+/**
+ * 비동기 동기화 작업.
+ *
+ * 요청 스레드는 대상(연도 × 국가)을 확정하고 작업 id 를 바로 반환하며, 실행은 holidayExecutor 에서 진행된다.
+ * 작업은 초기 적재·스케줄러·sync / refresh API 와 같은 HolidaySyncLock 을 접수 순서대로 얻어 한 번에 하나씩 실행한다.
+ * 대기(QUEUED) 작업은 max-queued 개까지만 받고, 넘으면 SYNC_JOB_QUEUE_FULL 로 거절한다.
+ * - SYNC: HolidaySyncPipeline 으로 신규 공휴일만 배치 적재
+ * - REFRESH: 파티션마다 HolidaySyncService.refresh(year, countryCode) 를 fetch-concurrency 만큼 동시에 실행
+ * 완료된 작업은 max-retained 개까지 보관하고 오래된 것부터 제거한다.
+ */
+@Slf4j
+@Service
+public class HolidaySyncJobService {
+
+    private final HolidaySyncService holidaySyncService;
+    private final HolidaySyncPipeline holidaySyncPipeline;
+    private final HolidaySyncLock holidaySyncLock;
+    private final CountryRepository countryRepository;
+    private final Executor holidayExecutor;
+    private final int maxRetained;
+    private final int maxQueued;
+    private final int maxPartitions;
+    private final int minYear;
+    private final int maxYear;
+    private final int refreshConcurrency;
+
+    // 접수 순서 유지, jobs 로 동기화
+    private final Map<String, HolidaySyncJob> jobs = new LinkedHashMap<>();
+
+    public HolidaySyncJobService(
+        HolidaySyncService holidaySyncService,
+        HolidaySyncPipeline holidaySyncPipeline,
+        HolidaySyncLock holidaySyncLock,
+        CountryRepository countryRepository,
+        @Qualifier("holidayExecutor") Executor holidayExecutor,
+        @Value("${holiday.sync.job.max-retained:100}") int maxRetained,
+        @Value("${holiday.sync.job.max-queued:10}") int maxQueued,
+        @Value("${holiday.sync.job.max-partitions:10000}") int maxPartitions,
+        @Value("${holiday.sync.job.min-year:1975}") int minYear,
+        @Value("${holiday.sync.job.max-year:2075}") int maxYear,
+        @Value("${holiday.sync.fetch-concurrency:32}") int refreshConcurrency
+    ) {
+        this.holidaySyncService = holidaySyncService;
+        this.holidaySyncPipeline = holidaySyncPipeline;
+        this.holidaySyncLock = holidaySyncLock;
+        this.countryRepository = countryRepository;
+        this.holidayExecutor = holidayExecutor;
+        this.maxRetained = maxRetained;
+        this.maxQueued = maxQueued;
+        this.maxPartitions = maxPartitions;
+        this.minYear = minYear;
+        this.maxYear = maxYear;
+        this.refreshConcurrency = Math.max(1, refreshConcurrency);
+    }
+
+    public HolidaySyncJobStatus submit(HolidaySyncJobRequest request) {
+        HolidaySyncJobType type = request.type() != null ? request.type() : HolidaySyncJobType.SYNC;
+        List<Integer> years = resolveYears(request);
+        List<Country> countries = resolveCountries(request.countryCodes());
+
+        long partitions = (long) years.size() * countries.size();
+        if (partitions > maxPartitions) {
+            throw new BusinessException(
+                ErrorCode.INVALID_REQUEST,
+                "동기화 작업 대상이 너무 많습니다. partitions=" + partitions + ", max=" + maxPartitions
+            );
+        }
+
+        HolidaySyncJob job = new HolidaySyncJob(UUID.randomUUID().toString(), type, years, countries);
+        synchronized (jobs) {
+            // 대기 작업마다 실행 스레드가 잠금을 기다리므로 대기 수를 제한
+            long queued = jobs.values().stream().filter(HolidaySyncJob::isQueued).count();
+            if (queued >= maxQueued) {
+                throw new BusinessException(
+                    ErrorCode.SYNC_JOB_QUEUE_FULL,
+                    "대기 중인 동기화 작업이 너무 많습니다. queued=" + queued + ", max=" + maxQueued
+                );
+            }
+            evictFinished();
+            jobs.put(job.id(), job);
+        }
+        holidayExecutor.execute(() -> run(job));
+
+        log.info("[HolidaySyncJob] 접수 - jobId={}, type={}, years={}, countries={}, partitions={}",
+            job.id(), type, years, countries.size(), partitions);
+        return job.status();
+    }
+
+    public HolidaySyncJobStatus get(String jobId) {
+        return find(jobId).status();
+    }
+
+    // 최근 접수 순
+    public List<HolidaySyncJobStatus> list() {
+        List<HolidaySyncJobStatus> statuses = new ArrayList<>();
+        synchronized (jobs) {
+            jobs.values().forEach(job -> statuses.add(job.status()));
+        }
+        Collections.reverse(statuses);
+        return statuses;
+    }
+
+    /**
+     * 대기 중이면 바로 취소, 실행 중이면 시작하지 않은 파티션을 건너뛰고 진행 중인 파티션까지만 반영한다.
+     * 이미 끝난 작업은 상태를 바꾸지 않는다.
+     */
+    public HolidaySyncJobStatus cancel(String jobId) {
+        HolidaySyncJob job = find(jobId);
+        if (!job.isFinished()) {
+            job.cancel();
+            log.info("[HolidaySyncJob] 취소 요청 - jobId={}", jobId);
+        }
+        return job.status();
+    }
+
+    private void run(HolidaySyncJob job) {
+        try {
+            holidaySyncLock.lockInterruptibly();
+        } catch (InterruptedException e) {
+            // 대기 중에 애플리케이션 종료
+            Thread.currentThread().interrupt();
+            job.cancel();
+            return;
+        }
+        try {
+            if (!job.start()) {
+                return;
+            }
+            log.info("[HolidaySyncJob] 시작 - jobId={}, type={}, partitions={}", job.id(), job.type(), job.partitions().size());
+
+            switch (job.type()) {
+                case SYNC -> holidaySyncPipeline.run(job.partitions(), job.countries(), job);
+                case REFRESH -> refresh(job);
+            }
+            job.complete();
+
+        } catch (InterruptedException e) {
+            // 애플리케이션 종료로 중단
+            Thread.currentThread().interrupt();
+            job.cancel();
+            job.complete();
+        } catch (RuntimeException e) {
+            log.error("[HolidaySyncJob] 실패 - jobId={}", job.id(), e);
+            job.fail(e.getMessage());
+        } finally {
+            holidaySyncLock.unlock();
+            HolidaySyncJobStatus status = job.status();
+            log.info("[HolidaySyncJob] 종료 - jobId={}, state={}, succeeded={}, failed={}, remaining={}, changedRows={}, elapsedMs={}",
+                status.id(), status.state(), status.succeeded(), status.failed(), status.remaining(),
+                status.changedRows(), status.elapsedMs());
+        }
+    }
+
+    // 파티션 단위 refresh: 하나가 실패해도 나머지는 계속 진행하고, 범위 밖 데이터는 건드리지 않는다
+    private void refresh(HolidaySyncJob job) throws InterruptedException {
+        Queue<HolidayPartition> pending = new ConcurrentLinkedQueue<>(job.partitions());
+        int workers = Math.max(1, Math.min(refreshConcurrency, pending.size()));
+        CountDownLatch done = new CountDownLatch(workers);
+
+        for (int i = 0; i < workers; i++) {
+            holidayExecutor.execute(() -> {
+                try {
+                    HolidayPartition partition;
+                    while (!job.cancelled() && (partition = pending.poll()) != null) {
+                        job.started(partition);
+                        try {
+                            HolidayRefreshResult result = holidaySyncService.refresh(partition.year(), partition.countryCode());
+                            job.succeeded(partition, result.inserted() + result.updated() + result.deleted());
+                        } catch (RuntimeException e) {
+                            log.error("[HolidaySyncJob] year={}, country={} 실패 - {}",
+                                partition.year(), partition.countryCode(), e.getMessage());
+                            job.failed(partition, e);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private List<Integer> resolveYears(HolidaySyncJobRequest request) {
+        if (request.years() != null && !request.years().isEmpty()) {
+            if (request.years().contains(null)) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "years 에 빈 값이 있습니다.");
+            }
+            request.years().forEach(this::checkYear);
+            return request.years().stream().distinct().sorted().toList();
+        }
+        if (request.fromYear() == null && request.toYear() == null) {
+            return holidaySyncService.defaultYears();
+        }
+        if (request.fromYear() == null || request.toYear() == null || request.fromYear() > request.toYear()) {
+            throw new BusinessException(
+                ErrorCode.INVALID_REQUEST,
+                "fromYear 와 toYear 는 함께 지정해야 하며 fromYear 는 toYear 보다 클 수 없습니다. fromYear="
+                    + request.fromYear() + ", toYear=" + request.toYear()
+            );
+        }
+        checkYear(request.fromYear());
+        checkYear(request.toYear());
+        return IntStream.rangeClosed(request.fromYear(), request.toYear()).boxed().toList();
+    }
+
+    // 연도는 Nager 요청 경로와 연도별 메트릭 태그로 그대로 쓰이므로 허용 범위로 제한
+    private void checkYear(int year) {
+        if (year < minYear || year > maxYear) {
+            throw new BusinessException(
+                ErrorCode.INVALID_REQUEST,
+                "허용 범위를 벗어난 연도입니다. year=" + year + ", min=" + minYear + ", max=" + maxYear
+            );
+        }
+    }
+
+    private List<Country> resolveCountries(List<String> countryCodes) {
+        if (countryCodes == null || countryCodes.isEmpty()) {
+            List<Country> countries = countryRepository.findAllByUsedTrue();
+            if (countries.isEmpty()) {
+                throw new BusinessException(ErrorCode.SYNC_TARGET_NOT_FOUND, "사용 가능한 국가가 없습니다. 국가 목록 동기화 후 다시 시도해주세요.");
+            }
+            return countries;
+        }
+
+        List<Country> countries = new ArrayList<>();
+        for (String code : new LinkedHashSet<>(countryCodes)) {
+            countries.add(countryRepository.findByCode(code)
+                .orElseThrow(() -> new BusinessException(
+                    ErrorCode.COUNTRY_NOT_FOUND,
+                    "국가를 찾을 수 없습니다. countryCode=" + code
+                )));
+        }
+        return countries;
+    }
+
+    private HolidaySyncJob find(String jobId) {
+        synchronized (jobs) {
+            HolidaySyncJob job = jobs.get(jobId);
+            if (job == null) {
+                throw new BusinessException(ErrorCode.SYNC_JOB_NOT_FOUND, "동기화 작업을 찾을 수 없습니다. jobId=" + jobId);
+            }
+            return job;
+        }
+    }
+
+    // jobs 잠금 안에서 호출, 끝난 작업만 오래된 순으로 제거
+    private void evictFinished() {
+        Iterator<HolidaySyncJob> it = jobs.values().iterator();
+        while (jobs.size() >= maxRetained && it.hasNext()) {
+            if (it.next().isFinished()) {
+                it.remove();
+            }
+        }
+    }
+}
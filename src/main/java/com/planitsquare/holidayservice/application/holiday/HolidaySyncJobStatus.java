@@ -0,0 +1,53 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 비동기 동기화 작업 진행 상황 (조회 시점 스냅샷)
+ *
+ * @param totalPartitions  대상 (연도, 국가) 수
+ * @param succeeded        반영 완료 파티션 수 (변경 없음 포함)
+ * @param failed           실패 파티션 수
+ * @param inFlight         fetch ~ 커밋 사이에 있는 파티션 수
+ * @param remaining        아직 시작하지 않은 파티션 수 (취소되면 건너뛴 수)
+ * @param changedRows      추가(REFRESH 는 추가 + 수정 + 삭제)된 행 수
+ * @param partitionsPerSec 시작 후 초당 처리(성공 + 실패) 파티션 수
+ * @param failedPartitions 실패 파티션 ("연도-국가")
+ * @param message          작업 자체가 실패한 경우 원인
+ */
+public record HolidaySyncJobStatus(
+    String id,
+    HolidaySyncJobType type,
+    State state,
+    List<Integer> years,
+    List<String> countryCodes,
+    int totalPartitions,
+    int succeeded,
+    int failed,
+    int inFlight,
+    int remaining,
+    long changedRows,
+    double partitionsPerSec,
+    long rowsPerSec,
+    Instant createdAt,
+    Instant startedAt,
+    Instant finishedAt,
+    long elapsedMs,
+    List<String> failedPartitions,
+    String message
+) {
+
+    public enum State {
+        QUEUED,            // 앞선 동기화(다른 작업, 초기 적재, 스케줄러, sync / refresh API)가 끝나기를 기다리는 중
+        RUNNING,
+        SUCCEEDED,
+        PARTIALLY_FAILED,  // 일부 파티션 실패
+        FAILED,            // 대상 조회 등 작업 자체 실패
+        CANCELLED;
+
+        public boolean finished() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+/**
+ * 비동기 동기화 작업 종류
+ */
+public enum HolidaySyncJobType {
+
+    // 신규 공휴일만 추가, manifest 가 같으면(304 / 동일 본문) 건너뜀. 대량 배치 파이프라인으로 처리
+    SYNC,
+
+    // upstream 과 비교해 추가·수정·삭제 (파티션 단위 refresh)
+    REFRESH
+}
@@ -0,0 +1,71 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.global.exception.BusinessException;
+import com.planitsquare.holidayservice.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 공휴일 쓰기 작업이 공유하는 잠금 (초기 적재, 스케줄 재동기화, sync / refresh / 삭제 API, 비동기 동기화 작업).
+ * 같은 파티션을 동시에 적재하면 유니크 제약에 걸리므로 한 번에 하나씩, 기다린 순서대로 실행한다.
+ * 트랜잭션 밖에서 잡아, 앞선 작업의 커밋이 끝난 뒤에 다음 작업이 시작되도록 한다.
+ */
+@Component
+public class HolidaySyncLock {
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final long requestWaitMs;
+
+    public HolidaySyncLock(@Value("${holiday.sync.lock-wait-ms:3000}") long requestWaitMs) {
+        this.requestWaitMs = requestWaitMs;
+    }
+
+    /**
+     * 앞선 작업이 끝날 때까지 기다렸다가 실행한다. (초기 적재, 스케줄러)
+     */
+    public void run(Runnable task) {
+        lock.lock();
+        try {
+            task.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * API 요청용. lock-wait-ms 안에 잠금을 얻지 못하면 요청 스레드를 붙잡아 두지 않고 SYNC_IN_PROGRESS 로 거절한다.
+     */
+    public <T> T callOrReject(Supplier<T> task) {
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(requestWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new BusinessException(
+                ErrorCode.SYNC_IN_PROGRESS,
+                "다른 동기화 작업이 진행 중입니다. 잠시 후 다시 시도하거나 비동기 작업 API(POST /api/holidays/sync-jobs)를 사용해주세요."
+            );
+        }
+        try {
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 비동기 동기화 작업용: 대기 중 애플리케이션이 종료되면 InterruptedException
+    void lockInterruptibly() throws InterruptedException {
+        lock.lockInterruptibly();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+}
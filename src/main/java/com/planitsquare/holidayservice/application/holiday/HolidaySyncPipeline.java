@@ -0,0 +1,515 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayDataChangedEvent;
+import com.planitsquare.holidayservice.domain.holiday.HolidayKeyView;
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+import com.planitsquare.holidayservice.domain.holiday.HolidayRepository;
+import com.planitsquare.holidayservice.domain.holiday.HolidaySyncManifest;
+import com.planitsquare.holidayservice.domain.holiday.HolidaySyncManifestRepository;
+import com.planitsquare.holidayservice.external.nager.NagerApiClient;
+import com.planitsquare.holidayservice.external.nager.NagerCircuitOpenException;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidaysPayload;
+import com.planitsquare.holidayservice.global.metrics.HolidayMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 공휴일 동기화 파이프라인.
+ *
+ * fetch(네트워크, 동시성 제한) → diff(CPU, DB 접근 없음) → write(단일 writer, 대량 배치 트랜잭션)
+ * 단계 사이는 크기가 제한된 큐로 연결되어 뒤 단계가 밀리면 앞 단계가 대기한다(backpressure).
+ * 기존 데이터와 manifest 는 시작 시 연도 단위로 한 번에 읽어 두고, diff 단계는 메모리에서만 비교한다.
+ */
+@Slf4j
+@Component
+public class HolidaySyncPipeline {
+
+    // 큐가 막혀 있을 때 run 종료(stopped) 여부를 다시 확인하는 간격
+    private static final long STOP_CHECK_MS = 100;
+
+    private final HolidayFetcher holidayFetcher;
+    private final HolidayRepository holidayRepository;
+    private final HolidaySyncManifestRepository manifestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor holidayExecutor;
+    private final NagerApiClient nagerApiClient;
+    private final HolidayMetrics holidayMetrics;
+
+    // 실행 중인 파이프라인의 단계별 큐 (대기량 보고용)
+    private final Set<StageQueues> activeRuns = ConcurrentHashMap.newKeySet();
+
+    private final int fetchConcurrency;
+    private final int queueCapacity;
+    private final int batchRows;
+    private final long flushIntervalMs;
+    private final long reportIntervalMs;
+
+    public HolidaySyncPipeline(
+        HolidayFetcher holidayFetcher,
+        HolidayRepository holidayRepository,
+        HolidaySyncManifestRepository manifestRepository,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher,
+        @Qualifier("holidayExecutor") Executor holidayExecutor,
+        NagerApiClient nagerApiClient,
+        HolidayMetrics holidayMetrics,
+        @Value("${holiday.sync.fetch-concurrency:32}") int fetchConcurrency,
+        @Value("${holiday.sync.queue-capacity:64}") int queueCapacity,
+        @Value("${holiday.sync.batch-rows:1000}") int batchRows,
+        @Value("${holiday.sync.flush-interval-ms:500}") long flushIntervalMs,
+        @Value("${holiday.sync.report-interval-ms:5000}") long reportIntervalMs
+    ) {
+        this.holidayFetcher = holidayFetcher;
+        this.holidayRepository = holidayRepository;
+        this.manifestRepository = manifestRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.holidayExecutor = holidayExecutor;
+        this.nagerApiClient = nagerApiClient;
+        this.holidayMetrics = holidayMetrics;
+        this.fetchConcurrency = fetchConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.batchRows = batchRows;
+        this.flushIntervalMs = flushIntervalMs;
+        this.reportIntervalMs = reportIntervalMs;
+    }
+
+    /**
+     * 실행 중인 모든 파이프라인의 단계별 대기량 합계
+     */
+    public HolidaySyncStageStats stageStats() {
+        int pending = 0;
+        int diffQueue = 0;
+        int writeQueue = 0;
+        for (StageQueues run : activeRuns) {
+            pending += run.pending().size();
+            diffQueue += run.fetched().size();
+            writeQueue += run.diffed().size();
+        }
+        return new HolidaySyncStageStats(
+            activeRuns.size(), pending, diffQueue, writeQueue,
+            nagerApiClient.inFlight(), nagerApiClient.waiting()
+        );
+    }
+
+    /**
+     * years × countries 전체 파티션을 동기화한다. writer 단계는 호출 스레드에서 실행되며 모든 단계가 끝나면 반환한다.
+     */
+    public HolidaySyncReport run(Collection<Integer> years, Collection<Country> countries) {
+        List<HolidayPartition> partitions = new ArrayList<>(years.size() * countries.size());
+        for (Integer year : years) {
+            for (Country country : countries) {
+                partitions.add(new HolidayPartition(year, country.getCode()));
+            }
+        }
+        return run(partitions, countries, HolidaySyncProgress.NONE);
+    }
+
+    /**
+     * 주어진 순서대로 fetch 를 시작한다. 앞쪽 파티션이 먼저 커밋되므로 호출 측이 적재 우선순위를 정할 수 있다.
+     * progress.cancelled() 가 true 가 되면 시작하지 않은 파티션은 건너뛰고 반환한다.
+     *
+     * @param countries partitions 에 등장하는 국가 (Holiday 연관관계용)
+     * @param progress  파티션별 커밋/실패 통지
+     */
+    public HolidaySyncReport run(List<HolidayPartition> partitions, Collection<Country> countries, HolidaySyncProgress progress) {
+        long start = System.currentTimeMillis();
+
+        Map<String, Country> countryByCode = new HashMap<>();
+        countries.forEach(c -> countryByCode.put(c.getCode(), c));
+
+        Queue<HolidayPartition> pending = new ConcurrentLinkedQueue<>(partitions);
+        int totalPartitions = pending.size();
+        Set<Integer> years = new HashSet<>();
+        partitions.forEach(p -> years.add(p.year()));
+
+        // 기존 데이터 키와 manifest 를 연도 단위로 일괄 적재
+        Map<HolidayPartition, Set<HolidayKey>> existingKeys = new HashMap<>();
+        for (HolidayKeyView view : holidayRepository.findKeyViewsByYearIn(years)) {
+            existingKeys.computeIfAbsent(new HolidayPartition(view.year(), view.countryCode()), k -> new HashSet<>())
+                .add(HolidayKey.of(view.date(), view.localName(), view.typeMask()));
+        }
+        Map<HolidayPartition, HolidaySyncManifest> manifests = new HashMap<>();
+        for (HolidaySyncManifest manifest : manifestRepository.findByYearIn(years)) {
+            manifests.put(new HolidayPartition(manifest.getYear(), manifest.getCountryCode()), manifest);
+        }
+
+        BlockingQueue<Fetched> fetched = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Diffed> diffed = new ArrayBlockingQueue<>(queueCapacity);
+        Tally tally = new Tally(totalPartitions, holidayMetrics, progress);
+        StageQueues queues = new StageQueues(pending, fetched, diffed);
+        activeRuns.add(queues);
+        // writer 가 어떤 이유로든(완료, 인터럽트, 예외) 끝나면 설정되어 fetch·diff 단계도 종료시킨다
+        AtomicBoolean stopped = new AtomicBoolean();
+
+        try {
+            holidayExecutor.execute(() -> diffStage(fetched, diffed, countryByCode, existingKeys, manifests, stopped));
+
+            // 실제 upstream 동시성은 NagerUpstreamGuard 가 제한한다
+            int workers = Math.max(1, Math.min(fetchConcurrency, totalPartitions));
+            Map<HolidayPartition, Integer> reschedules = new ConcurrentHashMap<>();
+            AtomicInteger runningFetchers = new AtomicInteger(workers);
+            for (int i = 0; i < workers; i++) {
+                holidayExecutor.execute(() -> fetchStage(pending, fetched, manifests, reschedules, runningFetchers, progress, stopped));
+            }
+
+            writeStage(diffed, tally);
+        } finally {
+            // 소비자가 없어진 큐에 막힌 fetch·diff 스레드가 남지 않도록 중단 표시 후 큐를 비운다
+            stopped.set(true);
+            pending.clear();
+            fetched.clear();
+            diffed.clear();
+            activeRuns.remove(queues);
+        }
+
+        HolidaySyncReport report = tally.toReport(System.currentTimeMillis() - start);
+        holidayMetrics.recordSyncRun(HolidayMetrics.SOURCE_PIPELINE, report.failed() == 0 ? "success" : "partial_failure",
+            TimeUnit.MILLISECONDS.toNanos(report.elapsedMs()));
+        log.info("[SyncPipeline] 완료 - totalPartitions={}, succeeded={}, unchanged={}, failed={}, insertedRows={}, rowsPerSec={}, elapsedMs={}",
+            report.totalPartitions(), report.succeeded(), report.unchanged(), report.failed(),
+            report.insertedRows(), report.rowsPerSec(), report.elapsedMs());
+        return report;
+    }
+
+    private void fetchStage(
+        Queue<HolidayPartition> pending,
+        BlockingQueue<Fetched> fetched,
+        Map<HolidayPartition, HolidaySyncManifest> manifests,
+        Map<HolidayPartition, Integer> reschedules,
+        AtomicInteger runningFetchers,
+        HolidaySyncProgress progress,
+        AtomicBoolean stopped
+    ) {
+        try {
+            HolidayPartition partition;
+            // 취소되면 남은 파티션은 시작하지 않고, 이미 fetch 한 결과는 diff·write 단계가 마저 반영한다
+            while (!stopped.get() && !progress.cancelled() && !Thread.currentThread().isInterrupted()
+                && (partition = pending.poll()) != null) {
+                progress.started(partition);
+                long startedNanos = System.nanoTime();
+                Fetched result;
+                try {
+                    NagerHolidaysPayload payload = holidayFetcher.fetchWithRetry(
+                        partition.year(), partition.countryCode(), manifests.get(partition));
+                    result = new Fetched(partition, payload, null, startedNanos);
+                } catch (NagerCircuitOpenException e) {
+                    // 서킷이 열려 있으면 실패로 끝내지 않고, half-open 시각까지 기다렸다가 대기열 뒤에 다시 넣는다
+                    if (holidayFetcher.awaitReschedule(e, reschedules.merge(partition, 1, Integer::sum))) {
+                        pending.add(partition);
+                        continue;
+                    }
+                    result = new Fetched(partition, null, e, startedNanos);
+                } catch (RuntimeException e) {
+                    result = new Fetched(partition, null, e, startedNanos);
+                }
+                if (!offer(fetched, result, stopped)) {
+                    break;
+                }
+            }
+        } finally {
+            // 마지막 fetch 작업이 끝나면 diff 단계에 종료를 알린다
+            if (runningFetchers.decrementAndGet() == 0) {
+                offer(fetched, Fetched.END, stopped);
+            }
+        }
+    }
+
+    private void diffStage(
+        BlockingQueue<Fetched> fetched,
+        BlockingQueue<Diffed> diffed,
+        Map<String, Country> countryByCode,
+        Map<HolidayPartition, Set<HolidayKey>> existingKeys,
+        Map<HolidayPartition, HolidaySyncManifest> manifests,
+        AtomicBoolean stopped
+    ) {
+        try {
+            while (!stopped.get()) {
+                Fetched f = fetched.poll(STOP_CHECK_MS, TimeUnit.MILLISECONDS);
+                if (f == null) {
+                    continue;
+                }
+                if (f == Fetched.END) {
+                    break;
+                }
+                if (!offer(diffed, diff(f, countryByCode, existingKeys, manifests), stopped)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            offer(diffed, Diffed.END, stopped);
+        }
+    }
+
+    private Diffed diff(
+        Fetched f,
+        Map<String, Country> countryByCode,
+        Map<HolidayPartition, Set<HolidayKey>> existingKeys,
+        Map<HolidayPartition, HolidaySyncManifest> manifests
+    ) {
+        HolidayPartition partition = f.partition();
+        if (f.failure() != null) {
+            return Diffed.failed(partition, f.failure(), f.startedNanos());
+        }
+        try {
+            HolidaySyncManifest manifest = manifests.get(partition);
+            NagerHolidaysPayload payload = f.payload();
+
+            if (manifest != null && (payload.notModified() || manifest.matches(payload.contentHash()))) {
+                return new Diffed(partition, manifest, payload, List.of(), true, null, f.startedNanos());
+            }
+
+            // 파티션은 한 번만 diff 되므로 복사하지 않고 기존 키 집합을 그대로 넘겨받는다 (diff 단계 단일 스레드)
+            Set<HolidayKey> seenKeys = existingKeys.remove(partition);
+            if (seenKeys == null) {
+                seenKeys = new HashSet<>();
+            }
+            List<Holiday> toInsert = HolidayDiffer.newHolidays(
+                countryByCode.get(partition.countryCode()), payload.holidays(), seenKeys);
+            return new Diffed(partition, manifest, payload, toInsert, false, null, f.startedNanos());
+        } catch (RuntimeException e) {
+            return Diffed.failed(partition, e, f.startedNanos());
+        }
+    }
+
+    // 단일 writer: batchRows 이상 모이거나 flushIntervalMs 동안 새 입력이 없으면 한 트랜잭션으로 커밋
+    private void writeStage(BlockingQueue<Diffed> diffed, Tally tally) {
+        List<Diffed> batch = new ArrayList<>();
+        int batchRowCount = 0;
+        long lastReport = System.currentTimeMillis();
+
+        try {
+            while (true) {
+                if (System.currentTimeMillis() - lastReport >= reportIntervalMs) {
+                    HolidaySyncStageStats stats = stageStats();
+                    log.info("[SyncPipeline] 진행 중 - pendingFetch={}, diffQueue={}, writeQueue={}, upstreamInFlight={}, upstreamWaiting={}, written={}",
+                        stats.pendingFetch(), stats.diffQueueDepth(), stats.writeQueueDepth(),
+                        stats.upstreamInFlight(), stats.upstreamWaiting(), tally.succeeded);
+                    lastReport = System.currentTimeMillis();
+                }
+
+                Diffed d = diffed.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (d == Diffed.END) {
+                    break;
+                }
+                if (d == null) {
+                    if (!batch.isEmpty()) {
+                        write(batch, tally);
+                        batch = new ArrayList<>();
+                        batchRowCount = 0;
+                    }
+                    continue;
+                }
+                if (d.failure() != null) {
+                    tally.fail(d, d.failure());
+                    continue;
+                }
+
+                batch.add(d);
+                batchRowCount += d.toInsert().size();
+                if (batchRowCount >= batchRows) {
+                    write(batch, tally);
+                    batch = new ArrayList<>();
+                    batchRowCount = 0;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!batch.isEmpty()) {
+            write(batch, tally);
+        }
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 저장한다. 실패하면 파티션마다 별도 트랜잭션으로 다시 저장해,
+     * 문제가 있는 파티션만 실패로 남기고 나머지는 반영한다.
+     */
+    private void write(List<Diffed> batch, Tally tally) {
+        try {
+            persist(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("[SyncPipeline] 저장 실패 - year={}, country={}",
+                    batch.get(0).partition().year(), batch.get(0).partition().countryCode(), e);
+                tally.fail(batch.get(0), e);
+                return;
+            }
+            log.warn("[SyncPipeline] 배치 저장 실패, 파티션 단위로 재시도 - partitions={}, cause={}", batch.size(), e.getMessage());
+            for (Diffed d : batch) {
+                writeOne(d.withNewEntities(), tally);
+            }
+            return;
+        }
+        // 집계·진행 콜백은 커밋 이후이므로 여기서 나는 예외를 저장 실패로 보지 않는다
+        batch.forEach(tally::succeed);
+    }
+
+    private void writeOne(Diffed d, Tally tally) {
+        try {
+            persist(List.of(d));
+        } catch (RuntimeException e) {
+            log.error("[SyncPipeline] 저장 실패 - year={}, country={}",
+                d.partition().year(), d.partition().countryCode(), e);
+            tally.fail(d, e);
+            return;
+        }
+        tally.succeed(d);
+    }
+
+    private void persist(List<Diffed> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Holiday> holidays = new ArrayList<>();
+            batch.forEach(d -> holidays.addAll(d.toInsert()));
+            holidayRepository.saveAll(holidays);
+
+            LocalDateTime now = LocalDateTime.now();
+            for (Diffed d : batch) {
+                HolidayPartition partition = d.partition();
+                HolidaySyncManifest manifest = d.manifest() != null
+                    ? d.manifest()
+                    : new HolidaySyncManifest(partition.year(), partition.countryCode());
+                NagerHolidaysPayload payload = d.payload();
+                if (d.unchanged()) {
+                    manifest.touch(payload.etag(), payload.lastModified(), now);
+                } else {
+                    manifest.record(payload.contentHash(), payload.etag(), payload.lastModified(), now);
+                }
+                manifestRepository.save(manifest);
+
+                if (!d.toInsert().isEmpty()) {
+                    eventPublisher.publishEvent(new HolidayDataChangedEvent(partition.year(), partition.countryCode()));
+                }
+            }
+        });
+    }
+
+    /**
+     * 다음 단계가 받을 때까지 기다리며 넣는다. 인터럽트되어도 계속 시도하고,
+     * run 이 끝나(stopped) 더 이상 소비하는 단계가 없으면 포기하고 false 를 반환한다.
+     */
+    private static <T> boolean offer(BlockingQueue<T> queue, T item, AtomicBoolean stopped) {
+        boolean interrupted = false;
+        try {
+            while (!stopped.get()) {
+                try {
+                    if (queue.offer(item, STOP_CHECK_MS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            return false;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record StageQueues(Queue<HolidayPartition> pending, BlockingQueue<?> fetched, BlockingQueue<?> diffed) {
+    }
+
+    // startedNanos: 파티션 fetch 시작 시각 (커밋까지의 소요 시간 측정용)
+    private record Fetched(HolidayPartition partition, NagerHolidaysPayload payload, RuntimeException failure, long startedNanos) {
+        static final Fetched END = new Fetched(null, null, null, 0L);
+    }
+
+    private record Diffed(
+        HolidayPartition partition,
+        HolidaySyncManifest manifest,
+        NagerHolidaysPayload payload,
+        List<Holiday> toInsert,
+        boolean unchanged,
+        RuntimeException failure,
+        long startedNanos
+    ) {
+        static final Diffed END = new Diffed(null, null, null, List.of(), false, null, 0L);
+
+        static Diffed failed(HolidayPartition partition, RuntimeException failure, long startedNanos) {
+            return new Diffed(partition, null, null, List.of(), false, failure, startedNanos);
+        }
+
+        // 롤백된 트랜잭션에서 시퀀스 id 를 할당받은 엔티티는 다시 persist 할 수 없으므로 새 엔티티로 만든다
+        Diffed withNewEntities() {
+            List<Holiday> copies = toInsert.stream()
+                .map(h -> Holiday.create(h.getCountry(), h.getDate(), h.getLocalName(), h.getName(),
+                    h.isFixed(), h.isGlobalHoliday(), h.getLaunchYear(), h.getTypeMask()))
+                .toList();
+            return new Diffed(partition, manifest, payload, copies, unchanged, failure, startedNanos);
+        }
+    }
+
+    // writer 스레드에서만 갱신
+    private static final class Tally {
+
+        private final int totalPartitions;
+        private final HolidayMetrics metrics;
+        private final HolidaySyncProgress progress;
+        private int succeeded;
+        private int unchanged;
+        private long insertedRows;
+        private final List<String> failedPartitions = new ArrayList<>();
+
+        private Tally(int totalPartitions, HolidayMetrics metrics, HolidaySyncProgress progress) {
+            this.totalPartitions = totalPartitions;
+            this.metrics = metrics;
+            this.progress = progress;
+        }
+
+        void succeed(Diffed d) {
+            succeeded++;
+            if (d.unchanged()) {
+                unchanged++;
+            }
+            int inserted = d.toInsert().size();
+            insertedRows += inserted;
+
+            HolidayPartition partition = d.partition();
+            metrics.recordSync(HolidayMetrics.SOURCE_PIPELINE, partition.year(), partition.countryCode(),
+                inserted > 0 ? "changed" : "unchanged", System.nanoTime() - d.startedNanos());
+            metrics.recordSyncRows(HolidayMetrics.SOURCE_PIPELINE, partition.countryCode(), "inserted", inserted);
+            metrics.recordSyncRows(HolidayMetrics.SOURCE_PIPELINE, partition.countryCode(), "skipped",
+                d.payload().holidays().size() - inserted);
+            progress.succeeded(partition, inserted);
+        }
+
+        void fail(Diffed d, RuntimeException e) {
+            HolidayPartition partition = d.partition();
+            metrics.recordSync(HolidayMetrics.SOURCE_PIPELINE, partition.year(), partition.countryCode(),
+                "failed", System.nanoTime() - d.startedNanos());
+            failedPartitions.add(partition.year() + "-" + partition.countryCode());
+            log.error("[SyncPipeline] year={}, country={} 실패 - {}", partition.year(), partition.countryCode(), e.getMessage());
+            progress.failed(partition, e);
+        }
+
+        HolidaySyncReport toReport(long elapsedMs) {
+            return new HolidaySyncReport(
+                totalPartitions, succeeded, unchanged, failedPartitions.size(),
+                insertedRows, elapsedMs, List.copyOf(failedPartitions)
+            );
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
+
+/**
+ * 동기화가 (연도, 국가) 단위 진행 상황을 알리는 콜백.
+ * succeeded / failed 는 writer 스레드에서 커밋 직후(실패는 확정 시점) 호출되므로 구현은 가볍게 유지한다.
+ */
+public interface HolidaySyncProgress {
+
+    HolidaySyncProgress NONE = new HolidaySyncProgress() {
+    };
+
+    // fetch 시작 (서킷 open 으로 다시 대기열에 들어간 파티션은 다시 호출될 수 있다)
+    default void started(HolidayPartition partition) {
+    }
+
+    /**
+     * @param changedRows 추가(재동기화는 추가 + 수정 + 삭제)된 행 수
+     */
+    default void succeeded(HolidayPartition partition, int changedRows) {
+    }
+
+    default void failed(HolidayPartition partition, RuntimeException e) {
+    }
+
+    /**
+     * true 이면 아직 시작하지 않은 파티션은 건너뛴다. 이미 fetch 한 파티션은 끝까지 반영한다.
+     */
+    default boolean cancelled() {
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import java.util.List;
+
+/**
+ * 대량 동기화 결과 요약
+ */
+public record HolidaySyncReport(
+    int totalPartitions,
+    int succeeded,
+    int unchanged,
+    int failed,
+    long insertedRows,
+    long elapsedMs,
+    List<String> failedPartitions
+) {
+
+    public long rowsPerSec() {
+        return elapsedMs > 0 ? insertedRows * 1000 / elapsedMs : insertedRows;
+    }
+}
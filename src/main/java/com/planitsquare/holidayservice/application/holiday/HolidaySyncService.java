@@ -4,41 +4,87 @@ import com.planitsquare.holidayservice.application.country.CountrySyncService;
 import com.planitsquare.holidayservice.domain.country.Country;
 import com.planitsquare.holidayservice.domain.country.CountryRepository;
 import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayDataChangedEvent;
+import com.planitsquare.holidayservice.domain.holiday.HolidayPartition;
 import com.planitsquare.holidayservice.domain.holiday.HolidayRepository;
-import com.planitsquare.holidayservice.external.nager.NagerApiClient;
-import com.planitsquare.holidayservice.external.nager.dto.NagerHolidayResponse;
+import com.planitsquare.holidayservice.domain.holiday.HolidaySyncManifest;
+import com.planitsquare.holidayservice.domain.holiday.HolidaySyncManifestRepository;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidaysPayload;
 import com.planitsquare.holidayservice.global.exception.BusinessException;
 import com.planitsquare.holidayservice.global.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import com.planitsquare.holidayservice.global.metrics.HolidayMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class HolidaySyncService {
 
-    private final NagerApiClient nagerApiClient;
+    private final HolidayFetcher holidayFetcher;
+    private final HolidaySyncPipeline holidaySyncPipeline;
     private final CountryRepository countryRepository;
     private final HolidayRepository holidayRepository;
+    private final HolidaySyncManifestRepository manifestRepository;
     private final CountrySyncService countrySyncService;
-    private final Executor holidayExecutor;
-
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final HolidayMetrics holidayMetrics;
+    private final HolidayLoadTracker holidayLoadTracker;
+    // 초기 적재·국가 단위 재동기화의 기본 연도 범위 (양 끝 포함)
+    private final int fromYear;
+    private final int toYear;
+
+    public HolidaySyncService(
+        HolidayFetcher holidayFetcher,
+        HolidaySyncPipeline holidaySyncPipeline,
+        CountryRepository countryRepository,
+        HolidayRepository holidayRepository,
+        HolidaySyncManifestRepository manifestRepository,
+        CountrySyncService countrySyncService,
+        ApplicationEventPublisher eventPublisher,
+        TransactionTemplate transactionTemplate,
+        HolidayMetrics holidayMetrics,
+        HolidayLoadTracker holidayLoadTracker,
+        @Value("${holiday.sync.from-year:2020}") int fromYear,
+        @Value("${holiday.sync.to-year:2025}") int toYear
+    ) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException(
+                "holiday.sync.from-year 는 to-year 보다 클 수 없습니다. fromYear=" + fromYear + ", toYear=" + toYear);
+        }
+        this.holidayFetcher = holidayFetcher;
+        this.holidaySyncPipeline = holidaySyncPipeline;
+        this.countryRepository = countryRepository;
+        this.holidayRepository = holidayRepository;
+        this.manifestRepository = manifestRepository;
+        this.countrySyncService = countrySyncService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.holidayMetrics = holidayMetrics;
+        this.holidayLoadTracker = holidayLoadTracker;
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+    }
 
+    /**
+     * holiday.sync.from-year ~ to-year
+     */
+    public List<Integer> defaultYears() {
+        return IntStream.rangeClosed(fromYear, toYear).boxed().toList();
+    }
 
-    public void syncSixYearsAllCountriesParallel() {
+    public void syncAllCountriesParallel() {
 
         long start = System.currentTimeMillis();
-        log.info("[Parallel Sync] 국가 + 6년치 휴일 병렬 적재 시작");
+        log.info("[Parallel Sync] 국가 + {}~{} 휴일 병렬 적재 시작", fromYear, toYear);
 
         countrySyncService.syncCountries();
         List<Country> countries = countryRepository.findAllByUsedTrue();
@@ -48,115 +94,98 @@ public class HolidaySyncService {
             return;
         }
 
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failureCount = new AtomicInteger(0);
-        List<String> failedTasks = Collections.synchronizedList(new ArrayList<>());
-
-        int totalTasks = 0;
-
-        for (int year = 2020; year <= 2025; year++) {
-            final int syncYear = year;
-
-            for (Country country : countries) {
-                final String countryCode = country.getCode();
-                totalTasks++;
+        // 우선 국가·금년도에 가까운 연도부터 fetch → diff → 배치 write 파이프라인으로 적재, 파티션별 상태는 HolidayLoadTracker 에 반영
+        List<HolidayPartition> partitions = holidayLoadTracker.plan(
+            defaultYears(),
+            countries.stream().map(Country::getCode).toList()
+        );
+        HolidaySyncReport report = holidaySyncPipeline.run(partitions, countries, holidayLoadTracker);
 
-                CompletableFuture<Void> future =
-                    CompletableFuture.runAsync(() -> {
-                        try {
-                            syncByYearAndCountry(syncYear, countryCode);
-                            successCount.incrementAndGet();
-                        } catch (Exception e) {
-                            failureCount.incrementAndGet();
-                            String failKey = syncYear + "-" + countryCode;
-                            failedTasks.add(failKey);
-                            log.error("[Parallel Sync] year={}, country={} 실패", syncYear, countryCode, e);
-                        }
-                    }, holidayExecutor);
+        long elapsed = System.currentTimeMillis() - start;
 
-                futures.add(future);
-            }
-        }
-
-        // 모든 작업이 끝날 때까지 대기
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-
-        long end = System.currentTimeMillis();
-        long elapsed = end - start;
-
-        int success = successCount.get();
-        int failure = failureCount.get();
-
-        if (failure == 0) {
-            log.info("[Parallel Sync] 병렬 초기 적재 완료 - totalTasks={}, success={}, failure={}, elapsedMs={}ms",
-                totalTasks, success, failure, elapsed);
+        if (report.failed() == 0) {
+            log.info("[Parallel Sync] 병렬 초기 적재 완료 - totalTasks={}, success={}, unchanged={}, failure={}, insertedRows={}, rowsPerSec={}, elapsedMs={}ms",
+                report.totalPartitions(), report.succeeded(), report.unchanged(), report.failed(),
+                report.insertedRows(), report.rowsPerSec(), elapsed);
         } else {
             log.warn(
-                "[Parallel Sync] 병렬 초기 적재 완료(일부 실패) - totalTasks={}, success={}, failure={}, elapsedMs={}ms, failedTasks={}",
-                totalTasks, success, failure, elapsed, failedTasks
+                "[Parallel Sync] 병렬 초기 적재 완료(일부 실패) - totalTasks={}, success={}, unchanged={}, failure={}, insertedRows={}, rowsPerSec={}, elapsedMs={}ms, failedTasks={}",
+                report.totalPartitions(), report.succeeded(), report.unchanged(), report.failed(),
+                report.insertedRows(), report.rowsPerSec(), elapsed, report.failedPartitions()
             );
         }
     }
 
 
 
+    /**
+     * @return 신규 적재된 공휴일 수
+     */
     @Transactional
-    public void syncByYearAndCountry(int year, String countryCode) {
+    public int syncByYearAndCountry(int year, String countryCode) {
         long start = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        String outcome = "failed";
+        try {
 
-        Country country = countryRepository.findByCode(countryCode)
-            .orElseThrow(() -> new BusinessException(
-                ErrorCode.COUNTRY_NOT_FOUND,
-                "존재하지 않는 국가 코드입니다. countryCode=" + countryCode
-            ));
-
-        List<NagerHolidayResponse> publicHolidays = fetchHolidaysWithRetry(year, countryCode);
-
-        List<Holiday> existing = holidayRepository.findByCountryAndYear(country, year);
-        Set<String> seenKeys = existing.stream()
-            .map(h -> h.getDate() + "|" + h.getLocalName() + "|" + (h.getTypes() == null ? "" : h.getTypes()))
-            .collect(Collectors.toSet());
+            Country country = countryRepository.findByCode(countryCode)
+                .orElseThrow(() -> new BusinessException(
+                    ErrorCode.COUNTRY_NOT_FOUND,
+                    "존재하지 않는 국가 코드입니다. countryCode=" + countryCode
+                ));
+
+            HolidaySyncManifest manifest = manifestRepository.findByYearAndCountryCode(year, countryCode)
+                .orElse(null);
+
+            NagerHolidaysPayload payload = holidayFetcher.fetchWithRetry(year, countryCode, manifest);
+
+            // 304 또는 직전 동기화와 동일한 본문이면 기존 엔티티 조회/비교 없이 종료
+            if (manifest != null && (payload.notModified() || manifest.matches(payload.contentHash()))) {
+                manifest.touch(payload.etag(), payload.lastModified(), LocalDateTime.now());
+                manifestRepository.save(manifest);
+                outcome = "unchanged";
+                log.info("[HolidaySyncService.syncByYearAndCountry] 변경 없음 skip - year={}, countryCode={}, notModified={}, elapsedMs={}",
+                    year, countryCode, payload.notModified(), System.currentTimeMillis() - start);
+                return 0;
+            }
 
-        List<Holiday> toInsert = new ArrayList<>();
+            List<Holiday> existing = holidayRepository.findByCountryAndYear(country, year);
+            Set<HolidayKey> seenKeys = new HashSet<>(existing.size() * 2);
+            for (Holiday holiday : existing) {
+                seenKeys.add(HolidayKey.of(holiday));
+            }
 
-        for (NagerHolidayResponse dto : publicHolidays) {
-            String typeKey = buildTypeKey(dto.types());
-            String key = dto.date() + "|" + dto.localName() + "|" + typeKey;
+            List<Holiday> toInsert = HolidayDiffer.newHolidays(country, payload.holidays(), seenKeys);
 
-            if (seenKeys.contains(key)) {
-                continue;
+            if (!toInsert.isEmpty()) {
+                holidayRepository.saveAll(toInsert);
+                eventPublisher.publishEvent(new HolidayDataChangedEvent(year, countryCode));
+                log.info("공휴일 적재 완료(최적화) - year={}, country={}, inserted={}", year, countryCode, toInsert.size());
             }
-            seenKeys.add(key);
-
-            Holiday holiday = Holiday.create(
-                country,
-                dto.date(),
-                dto.localName(),
-                dto.name(),
-                dto.fixed(),
-                dto.global(),
-                dto.launchYear(),
-                dto.types()      // 여기서 내부에서 String으로 변환
-            );
 
-            toInsert.add(holiday);
-        }
+            if (manifest == null) {
+                manifest = new HolidaySyncManifest(year, countryCode);
+            }
+            manifest.record(payload.contentHash(), payload.etag(), payload.lastModified(), LocalDateTime.now());
+            manifestRepository.save(manifest);
 
+            outcome = toInsert.isEmpty() ? "unchanged" : "changed";
+            holidayMetrics.recordSyncRows(HolidayMetrics.SOURCE_SINGLE, countryCode, "inserted", toInsert.size());
+            holidayMetrics.recordSyncRows(HolidayMetrics.SOURCE_SINGLE, countryCode, "skipped",
+                payload.holidays().size() - toInsert.size());
 
+            long end = System.currentTimeMillis();
+            log.info("[HolidaySyncService.syncByYearAndCountry] year={}, countryCode={}, elapsedMs={}",
+                year, countryCode, (end - start));
+            return toInsert.size();
 
-      if (!toInsert.isEmpty()) {
-        holidayRepository.saveAll(toInsert);
-        log.info("공휴일 적재 완료(최적화) - year={}, country={}, inserted={}", year, countryCode, toInsert.size());
-    }
-        long end = System.currentTimeMillis();
-        log.info("[HolidaySyncService.syncByYearAndCountry] year={}, countryCode={}, elapsedMs={}",
-            year, countryCode, (end - start));
+        } finally {
+            holidayMetrics.recordSync(HolidayMetrics.SOURCE_SINGLE, year, countryCode, outcome, System.nanoTime() - startNanos);
+        }
     }
 
     @Transactional
-    public void syncSixYearsAllCountries() {
+    public void syncAllCountries() {
 
         long start = System.currentTimeMillis();
         try {
@@ -169,7 +198,7 @@ public class HolidaySyncService {
                 log.warn("사용 가능한 국가가 없습니다. CountrySyncService 동작을 확인해주세요.");
             }
 
-            for (int year = 2020; year <= 2025; year++) {
+            for (int year = fromYear; year <= toYear; year++) {
                 for (Country country : countries) {
                     String code = country.getCode();
                     log.info("공휴일 적재 시작 - year={}, country={}", year, code);
@@ -187,7 +216,7 @@ public class HolidaySyncService {
 
         } finally {
             long end = System.currentTimeMillis();
-            log.info("[HolidaySyncService.syncFiveYearsAllCountries] elapsedMs={}", (end - start));
+            log.info("[HolidaySyncService.syncAllCountries] elapsedMs={}", (end - start));
         }
     }
 
@@ -218,12 +247,18 @@ public class HolidaySyncService {
 
             if (year != null && country != null) {
                 deletedCount = holidayRepository.deleteByCountryAndYear(country, year);
+                manifestRepository.deleteByYearAndCountryCode(year, country.getCode());
             } else if (year != null) {
                 deletedCount = holidayRepository.deleteByYear(year);
+                manifestRepository.deleteByYear(year);
             } else {
                 deletedCount = holidayRepository.deleteByCountry(country);
+                manifestRepository.deleteByCountryCode(country.getCode());
             }
 
+            if (deletedCount > 0) {
+                eventPublisher.publishEvent(new HolidayDataChangedEvent(year, country != null ? country.getCode() : null));
+            }
             return deletedCount;
 
         } finally {
@@ -235,10 +270,23 @@ public class HolidaySyncService {
         }
     }
 
-    @Transactional
-    public void refresh(Integer year, String countryCode) {
+    /**
+     * 조건 범위를 upstream 과 비교해 바뀐 행만 insert / update / delete 한다.
+     * - year + countryCode: 해당 연도·국가
+     * - year 만: 해당 연도의 사용 국가 전체 (사용하지 않는 국가의 해당 연도 데이터는 삭제)
+     * - countryCode 만: 해당 국가의 holiday.sync.from-year ~ to-year
+     *   (범위 밖 연도는 비동기 작업이 적재했을 수 있으므로 건드리지 않는다)
+     *
+     * Nager 조회는 트랜잭션 밖에서 모두 동시에 끝내고, 비교·반영만 짧은 트랜잭션 하나로 처리한다.
+     * 조회가 하나라도 실패하면 DB 는 건드리지 않는다.
+     */
+    public HolidayRefreshResult refresh(Integer year, String countryCode) {
 
         long start = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        long fetchedAt = start;
+        String outcome = "failed";
+        HolidayRefreshResult result = HolidayRefreshResult.empty();
         try {
 
             if (year == null && (countryCode == null || countryCode.isBlank())) {
@@ -257,84 +305,138 @@ public class HolidaySyncService {
                     ));
             }
 
+            // 재동기화 대상 파티션
+            Map<HolidayPartition, Country> targets = new LinkedHashMap<>();
             if (year != null && country != null) {
-                holidayRepository.deleteByCountryAndYear(country, year);
-                syncByYearAndCountry(year, countryCode);
-                return;
-            }
-
-            if (year != null) {
-                holidayRepository.deleteByYear(year);
+                targets.put(new HolidayPartition(year, country.getCode()), country);
+            } else if (year != null) {
                 for (Country c : countryRepository.findAllByUsedTrue()) {
-                    syncByYearAndCountry(year, c.getCode());
+                    targets.put(new HolidayPartition(year, c.getCode()), c);
+                }
+            } else {
+                for (int yearVal = fromYear; yearVal <= toYear; yearVal++) {
+                    targets.put(new HolidayPartition(yearVal, country.getCode()), country);
                 }
-                return;
             }
 
-            // country only
-            holidayRepository.deleteByCountry(country);
-            for (int yearVal = 2020; yearVal <= 2025; yearVal++) {
-                syncByYearAndCountry(yearVal, countryCode);
-            }
+            // 1) 트랜잭션 밖: 재동기화는 manifest 와 관계없이 항상 전체 본문을 받아 비교
+            Map<HolidayPartition, NagerHolidaysPayload> payloads = holidayFetcher.fetchAll(targets.keySet());
+            fetchedAt = System.currentTimeMillis();
+
+            // 2) 짧은 쓰기 트랜잭션: 비교 + 변경분 반영
+            Country scopeCountry = country;
+            result = transactionTemplate.execute(status -> applyRefresh(year, scopeCountry, targets, payloads));
+            outcome = result.inserted() + result.updated() + result.deleted() > 0 ? "changed" : "unchanged";
+            return result;
 
         } finally {
+            holidayMetrics.recordSyncRun(HolidayMetrics.SOURCE_REFRESH, outcome, System.nanoTime() - startNanos);
             long end = System.currentTimeMillis();
             log.info(
-                "[HolidaySyncService.refresh] year={}, countryCode={}, elapsedMs={}",
-                year, countryCode, (end - start)
+                "[HolidaySyncService.refresh] year={}, countryCode={}, partitions={}, inserted={}, updated={}, deleted={}, unchanged={}, fetchMs={}, writeMs={}",
+                year, countryCode, result.partitions(), result.inserted(), result.updated(), result.deleted(),
+                result.unchanged(), (fetchedAt - start), (end - fetchedAt)
             );
         }
     }
 
-    private List<NagerHolidayResponse> fetchHolidaysWithRetry(int year, String countryCode) {
-        int maxAttempts = 3;
-        int attempt = 0;
-
-        while (true) {
-            attempt++;
-            try {
-                // 실제 Nager API 호출
-                return nagerApiClient.getPublicHolidays(year, countryCode);
-
-            } catch (HttpClientErrorException.NotFound e) {
-                log.warn("해당 국가/연도는 API 데이터 없음 (404) - year={}, country={}", year, countryCode);
-                return Collections.emptyList();
-
-            } catch (Exception e) {
-                if (attempt >= maxAttempts) {
-                    log.error("Nager API 호출 실패 (최대 재시도 초과) - year={}, countryCode={}, attempt={}",
-                        year, countryCode, attempt, e);
-                    throw new BusinessException(
-                        ErrorCode.NAGER_API_ERROR,
-                        String.format("Nager.Date API 호출 실패 (year=%d, country=%s, attempt=%d)",
-                            year, countryCode, attempt)
-                    );
-                }
+    private HolidayRefreshResult applyRefresh(
+        Integer year,
+        Country country,
+        Map<HolidayPartition, Country> targets,
+        Map<HolidayPartition, NagerHolidaysPayload> payloads
+    ) {
+        // 범위 내 기존 공휴일 / manifest 를 한 번에 조회해 파티션별로 묶는다
+        List<Holiday> existingRows;
+        List<HolidaySyncManifest> existingManifests;
+        if (year != null && country != null) {
+            existingRows = holidayRepository.findByCountryAndYear(country, year);
+            existingManifests = manifestRepository.findByYearAndCountryCode(year, country.getCode())
+                .map(List::of).orElse(List.of());
+        } else if (year != null) {
+            existingRows = holidayRepository.findWithCountryByYear(year);
+            existingManifests = manifestRepository.findByYear(year);
+        } else {
+            existingRows = holidayRepository.findWithCountryByCountryAndYearBetween(country, fromYear, toYear);
+            existingManifests = manifestRepository.findByCountryCodeAndYearBetween(country.getCode(), fromYear, toYear);
+        }
 
-                log.warn("Nager API 호출 실패, 재시도 진행 - year={}, countryCode={}, attempt={}",
-                    year, countryCode, attempt, e);
-
-                try {
-                    Thread.sleep(500L * attempt); // 간단 backoff (0.5s, 1s, 1.5s)
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new BusinessException(
-                        ErrorCode.NAGER_API_ERROR,
-                        "Nager.Date API 재시도 중 인터럽트 발생"
-                    );
-                }
+        Map<HolidayPartition, List<Holiday>> existingByPartition = new HashMap<>();
+        for (Holiday h : existingRows) {
+            existingByPartition
+                .computeIfAbsent(new HolidayPartition(h.getYear(), h.getCountry().getCode()), k -> new ArrayList<>())
+                .add(h);
+        }
+        Map<HolidayPartition, HolidaySyncManifest> manifests = new HashMap<>();
+        for (HolidaySyncManifest m : existingManifests) {
+            manifests.put(new HolidayPartition(m.getYear(), m.getCountryCode()), m);
+        }
+
+        HolidayRefreshResult result = HolidayRefreshResult.empty();
+        List<Holiday> toInsert = new ArrayList<>();
+        List<Long> toDelete = new ArrayList<>();
+        List<HolidaySyncManifest> manifestsToSave = new ArrayList<>();
+        Set<HolidayPartition> changed = new LinkedHashSet<>();
+
+        for (Map.Entry<HolidayPartition, Country> target : targets.entrySet()) {
+            HolidayPartition partition = target.getKey();
+            NagerHolidaysPayload payload = payloads.get(partition);
+
+            HolidayChangeSet changes = HolidayDiffer.changes(
+                target.getValue(),
+                existingByPartition.getOrDefault(partition, List.of()),
+                payload.holidays()
+            );
+            existingByPartition.remove(partition);
+
+            toInsert.addAll(changes.toInsert());
+            changes.toDelete().forEach(h -> toDelete.add(h.getId()));
+            if (changes.hasChanges()) {
+                changed.add(partition);
+            }
+            result = result.plus(changes);
+
+            String code = partition.countryCode();
+            holidayMetrics.recordSyncRows(HolidayMetrics.SOURCE_REFRESH, code, "inserted", changes.toInsert().size());
+            holidayMetrics.recordSyncRows(HolidayMetrics.SOURCE_REFRESH, code, "updated", changes.updated());
+            holidayMetrics.recordSyncRows(HolidayMetrics.SOURCE_REFRESH, code, "deleted", changes.toDelete().size());
+            holidayMetrics.recordSyncRows(HolidayMetrics.SOURCE_REFRESH, code, "skipped", changes.unchanged());
+
+            HolidaySyncManifest manifest = manifests.remove(partition);
+            if (manifest == null) {
+                manifest = new HolidaySyncManifest(partition.year(), partition.countryCode());
             }
+            manifest.record(payload.contentHash(), payload.etag(), payload.lastModified(), LocalDateTime.now());
+            manifestsToSave.add(manifest);
         }
-    }
 
-    private String buildTypeKey(List<String> types) {
-        if (types == null || types.isEmpty()) {
-            return "";
+        // 대상이 아닌 범위 내 파티션(해당 연도의 사용하지 않는 국가)은 삭제
+        int orphaned = 0;
+        for (Map.Entry<HolidayPartition, List<Holiday>> leftover : existingByPartition.entrySet()) {
+            leftover.getValue().forEach(h -> toDelete.add(h.getId()));
+            orphaned += leftover.getValue().size();
+            holidayMetrics.recordSyncRows(HolidayMetrics.SOURCE_REFRESH, leftover.getKey().countryCode(), "deleted",
+                leftover.getValue().size());
+            changed.add(leftover.getKey());
+        }
+        if (orphaned > 0) {
+            result = new HolidayRefreshResult(result.partitions(), result.inserted(), result.updated(),
+                result.deleted() + orphaned, result.unchanged());
+        }
+        manifestRepository.deleteAll(manifests.values());
+
+        // 변경분만 반영: 삭제는 id IN 한 번, 갱신은 dirty checking 배치 update, 추가는 배치 insert
+        if (!toDelete.isEmpty()) {
+            holidayRepository.deleteAllByIdInBatch(toDelete);
+        }
+        holidayRepository.saveAll(toInsert);
+        manifestRepository.saveAll(manifestsToSave);
+
+        // 커밋 후 리스너가 받도록 트랜잭션 안에서 발행
+        for (HolidayPartition partition : changed) {
+            eventPublisher.publishEvent(new HolidayDataChangedEvent(partition.year(), partition.countryCode()));
         }
-        // 정렬해서 문자열 만들기
-        return types.stream()
-            .sorted()
-            .collect(Collectors.joining(","));
+        return result;
     }
 
 }
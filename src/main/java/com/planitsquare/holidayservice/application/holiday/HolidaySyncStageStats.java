@@ -0,0 +1,20 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+/**
+ * 동기화 파이프라인 단계별 대기량 스냅샷
+ *
+ * @param activeRuns        실행 중인 파이프라인 수
+ * @param pendingFetch      아직 fetch 를 시작하지 않은 파티션 수
+ * @param diffQueueDepth    fetch 완료 후 diff 를 기다리는 파티션 수
+ * @param writeQueueDepth   diff 완료 후 write 를 기다리는 파티션 수
+ * @param upstreamInFlight  진행 중인 Nager 요청 수
+ * @param upstreamWaiting   Nager 호출 슬롯을 기다리는 수
+ */
+public record HolidaySyncStageStats(
+    int activeRuns,
+    int pendingFetch,
+    int diffQueueDepth,
+    int writeQueueDepth,
+    int upstreamInFlight,
+    int upstreamWaiting
+) {}
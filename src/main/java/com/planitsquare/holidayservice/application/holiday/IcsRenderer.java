@@ -0,0 +1,97 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * RFC 5545 iCalendar 렌더링. (DB 접근 없음)
+ * (연도, 국가) 단위 VEVENT 블록과 이를 감싸는 VCALENDAR 머리/꼬리를 따로 만들어
+ * 변경된 파티션의 블록만 다시 렌더링할 수 있게 한다.
+ */
+final class IcsRenderer {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter STAMP =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private IcsRenderer() {
+    }
+
+    static byte[] header(String countryCode) {
+        StringBuilder sb = new StringBuilder(256);
+        line(sb, "BEGIN:VCALENDAR");
+        line(sb, "VERSION:2.0");
+        line(sb, "PRODID:-//planitsquare//holiday-service//KO");
+        line(sb, "CALSCALE:GREGORIAN");
+        line(sb, "METHOD:PUBLISH");
+        line(sb, "X-WR-CALNAME:" + text("Holidays " + countryCode));
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] footer() {
+        return ("END:VCALENDAR" + CRLF).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param holidays (date, id) 순으로 정렬된 한 파티션의 공휴일
+     */
+    static byte[] events(String countryCode, List<Holiday> holidays, Instant renderedAt) {
+        String stamp = STAMP.format(renderedAt);
+        StringBuilder sb = new StringBuilder(holidays.size() * 320);
+
+        for (Holiday h : holidays) {
+            List<String> types = h.getTypes();
+            String summary = h.getLocalName().equals(h.getName())
+                ? h.getLocalName()
+                : h.getLocalName() + " (" + h.getName() + ")";
+
+            line(sb, "BEGIN:VEVENT");
+            // id 는 재동기화 시 바뀌므로 (국가, 날짜, 이름, 유형)으로 고정 UID 를 만든다
+            line(sb, "UID:" + countryCode + "-" + DATE.format(h.getDate()) + "-"
+                + Integer.toHexString((h.getLocalName() + "|" + h.getTypeMask()).hashCode()) + "@holiday-service");
+            line(sb, "DTSTAMP:" + stamp);
+            line(sb, "DTSTART;VALUE=DATE:" + DATE.format(h.getDate()));
+            line(sb, "DTEND;VALUE=DATE:" + DATE.format(h.getDate().plusDays(1)));
+            line(sb, "SUMMARY:" + text(summary));
+            if (!types.isEmpty()) {
+                line(sb, "CATEGORIES:" + String.join(",", types.stream().map(IcsRenderer::text).toList()));
+            }
+            line(sb, "TRANSP:TRANSPARENT");
+            line(sb, "END:VEVENT");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // TEXT 값 이스케이프 (백슬래시, 세미콜론, 쉼표, 개행)
+    private static String text(String value) {
+        return value.replace("\\", "\\\\")
+            .replace(";", "\\;")
+            .replace(",", "\\,")
+            .replace("\r\n", "\\n")
+            .replace("\n", "\\n");
+    }
+
+    // 한 줄이 75 octet 을 넘으면 CRLF + 공백으로 접는다 (멀티바이트 문자는 쪼개지 않는다)
+    private static void line(StringBuilder sb, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int cp = content.codePointAt(i);
+            int size = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                sb.append(CRLF).append(' ');
+                octets = 1;
+            }
+            sb.appendCodePoint(cp);
+            octets += size;
+            i += Character.charCount(cp);
+        }
+        sb.append(CRLF);
+    }
+}
@@ -4,10 +4,13 @@ import com.planitsquare.holidayservice.domain.country.Country;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
+@Slf4j
 @Entity
 @Getter
 @NoArgsConstructor
@@ -15,14 +18,27 @@ import java.util.List;
     uniqueConstraints = {
         @UniqueConstraint(
             name = "uk_holiday_country_date_localname",
-            columnNames = {"country_id", "date", "local_name","types"}
+            columnNames = {"country_id", "date", "local_name", "type_mask"}
         )
+    },
+    indexes = {
+        // 국가 + 연도 검색, (date, id) 정렬
+        @Index(name = "idx_holiday_country_year_date", columnList = "country_id, holiday_year, date"),
+        // 연도만 지정한 검색 / 연도 단위 삭제·키 조회
+        @Index(name = "idx_holiday_year_date", columnList = "holiday_year, date"),
+        // 기간(from~to) 검색 (기간이 있으면 year 조건은 무시된다)
+        @Index(name = "idx_holiday_date", columnList = "date"),
+        // type 조건 검색을 type_mask IN (...) 인덱스 탐색으로 처리
+        @Index(name = "idx_holiday_country_year_type", columnList = "country_id, holiday_year, type_mask")
     }
 )
 public class Holiday {
 
+    // IDENTITY 는 insert 마다 키를 돌려받아야 해서 JDBC 배치가 꺼진다.
+    // pooled 시퀀스(allocationSize = jdbc.batch_size)로 키를 미리 할당해 saveAll 이 실제로 배치 insert 되도록 한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_seq")
+    @SequenceGenerator(name = "holiday_seq", sequenceName = "holiday_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY,optional = false)
@@ -49,8 +65,9 @@ public class Holiday {
 
     private Integer launchYear;
 
-    @Column(length = 200)
-    private String types;
+    // HolidayType 비트마스크 (Public | Bank ...)
+    @Column(name = "type_mask", nullable = false)
+    private int typeMask;
 
     public static Holiday create(
         Country country,
@@ -75,12 +92,63 @@ public class Holiday {
         return h;
     }
 
+    // 유형을 이미 비트마스크로 가진 경우 (스냅샷 적재)
+    public static Holiday create(
+        Country country,
+        LocalDate date,
+        String localName,
+        String name,
+        boolean fixed,
+        boolean globalHoliday,
+        Integer launchYear,
+        int typeMask
+    ) {
+        Holiday h = new Holiday();
+        h.country = country;
+        h.date = date;
+        h.year = date.getYear();
+        h.localName = localName;
+        h.name = name;
+        h.fixed = fixed;
+        h.globalHoliday = globalHoliday;
+        h.launchYear = launchYear;
+        h.typeMask = typeMask;
+        return h;
+    }
+
+    /**
+     * 같은 (date, localName, 유형) 공휴일의 나머지 속성을 갱신한다.
+     * @return 값이 바뀌었으면 true (dirty checking 으로 update 된다)
+     */
+    public boolean updateDetails(String name, boolean fixed, boolean globalHoliday, Integer launchYear) {
+        if (Objects.equals(this.name, name)
+            && this.fixed == fixed
+            && this.globalHoliday == globalHoliday
+            && Objects.equals(this.launchYear, launchYear)) {
+            return false;
+        }
+        this.name = name;
+        this.fixed = fixed;
+        this.globalHoliday = globalHoliday;
+        this.launchYear = launchYear;
+        return true;
+    }
+
+    // 알 수 없는 유형 이름은 저장하지 않고, Nager 에 새 유형이 추가되었는지 알 수 있도록 경고 로그를 남긴다
     public void setTypesFromList(List<String> typeList) {
-        if (typeList == null || typeList.isEmpty()) {
-            this.types = null;
-        } else {
-            this.types = String.join(",", typeList);
+        this.typeMask = HolidayType.maskOf(typeList);
+        if (typeList == null) {
+            return;
         }
+        for (String type : typeList) {
+            if (HolidayType.find(type).isEmpty()) {
+                log.warn("[Holiday] 알 수 없는 공휴일 유형은 저장하지 않음 - type={}, date={}, localName={}", type, date, localName);
+            }
+        }
+    }
+
+    public List<String> getTypes() {
+        return HolidayType.namesOf(typeMask);
     }
 }
 
@@ -0,0 +1,103 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import com.planitsquare.holidayservice.application.holiday.HolidaySearchCond;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 검색 전체 건수 캐시. (countryCode, year, type) 조합별 count 결과를 보관하고
+ * HolidayDataChangedEvent 범위에 걸리는 항목만 폐기한다.
+ * 기간(from~to) 조건이 있는 검색은 조합이 무한하므로 캐시하지 않는다.
+ * 키가 요청 값 그대로이므로 최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고,
+ * 알 수 없는 유형과 0 건(없는 국가·연도)은 보관하지 않는다.
+ */
+@Component
+public class HolidayCountCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<CountKey, Long> counts;
+    // count 계산 도중 데이터가 바뀌었는지 판단하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public HolidayCountCache(@Value("${holiday.count-cache.max-entries:4096}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CountKey, Long> eldest) {
+                return size() > HolidayCountCache.this.maxEntries;
+            }
+        };
+    }
+
+    public long get(HolidaySearchCond cond, LongSupplier counter) {
+        Optional<CountKey> key = CountKey.of(cond);
+        if (key.isEmpty()) {
+            return counter.getAsLong();
+        }
+
+        synchronized (counts) {
+            Long cached = counts.get(key.get());
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long generationAtLoad = generation.get();
+        long count = counter.getAsLong();
+        if (count > 0) {
+            synchronized (counts) {
+                if (generation.get() == generationAtLoad) {
+                    counts.putIfAbsent(key.get(), count);
+                }
+            }
+        }
+        return count;
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        generation.incrementAndGet();
+        synchronized (counts) {
+            counts.keySet().removeIf(key -> key.affectedBy(event));
+        }
+    }
+
+    private record CountKey(String countryCode, Integer year, HolidayType type) {
+
+        static Optional<CountKey> of(HolidaySearchCond cond) {
+            if (cond.getFrom() != null && cond.getTo() != null) {
+                return Optional.empty();
+            }
+            HolidayType type = null;
+            if (hasText(cond.getType())) {
+                Optional<HolidayType> found = HolidayType.find(cond.getType());
+                if (found.isEmpty()) {
+                    // 알 수 없는 유형은 항상 0 건
+                    return Optional.empty();
+                }
+                type = found.get();
+            }
+            return Optional.of(new CountKey(
+                hasText(cond.getCountryCode()) ? cond.getCountryCode() : null,
+                cond.getYear(),
+                type
+            ));
+        }
+
+        boolean affectedBy(HolidayDataChangedEvent event) {
+            return (event.year() == null || year == null || year.equals(event.year()))
+                && (event.countryCode() == null || countryCode == null || countryCode.equals(event.countryCode()));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+/**
+ * 공휴일 데이터가 변경(동기화/삭제/재동기화)되었음을 알리는 이벤트.
+ * year 또는 countryCode 가 null 이면 해당 축 전체가 변경 범위에 포함된다.
+ */
+public record HolidayDataChangedEvent(Integer year, String countryCode) {
+
+    public boolean covers(HolidayPartition partition) {
+        return covers(partition.year(), partition.countryCode());
+    }
+
+    public boolean covers(int year, String countryCode) {
+        return (this.year == null || this.year == year)
+            && (this.countryCode == null || this.countryCode.equals(countryCode));
+    }
+}
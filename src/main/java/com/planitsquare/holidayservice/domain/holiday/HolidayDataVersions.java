@@ -0,0 +1,106 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (countryCode, year) 단위 공휴일 데이터 버전.
+ * HolidayDataChangedEvent 가 커밋될 때마다 해당 범위의 버전을 올리고,
+ * 검색 조건이 걸칠 수 있는 모든 범위 중 가장 최근 버전을 조건의 버전으로 사용한다.
+ *
+ * 버전은 프로세스 단위 값이므로 재기동 시점을 함께 노출해 이전 프로세스의 버전과 구분한다.
+ */
+@Component
+public class HolidayDataVersions {
+
+    private final long bootEpoch = System.currentTimeMillis();
+    private final AtomicLong clock = new AtomicLong();
+
+    // 이벤트 범위별 마지막 변경 버전 (연도만 / 국가만 / 전체 범위 이벤트는 별도로 보관)
+    private final Map<HolidayPartition, Version> partitions = new ConcurrentHashMap<>();
+    private final Map<Integer, Version> years = new ConcurrentHashMap<>();
+    private final Map<String, Version> countries = new ConcurrentHashMap<>();
+    private volatile Version global = new Version(bootEpoch, 0L, Instant.ofEpochMilli(bootEpoch));
+
+    /**
+     * 조건 범위의 현재 버전. null 인 축은 해당 축 전체를 의미한다.
+     */
+    public Version current(Integer year, String countryCode) {
+        Version latest = global;
+
+        if (year != null && countryCode != null) {
+            latest = latest.max(years.get(year))
+                .max(countries.get(countryCode))
+                .max(partitions.get(new HolidayPartition(year, countryCode)));
+            return latest;
+        }
+
+        if (year != null) {
+            latest = latest.max(years.get(year));
+            for (Version v : countries.values()) {
+                latest = latest.max(v);
+            }
+        } else if (countryCode != null) {
+            latest = latest.max(countries.get(countryCode));
+            for (Version v : years.values()) {
+                latest = latest.max(v);
+            }
+        } else {
+            for (Version v : years.values()) {
+                latest = latest.max(v);
+            }
+            for (Version v : countries.values()) {
+                latest = latest.max(v);
+            }
+        }
+
+        for (Map.Entry<HolidayPartition, Version> entry : partitions.entrySet()) {
+            HolidayPartition p = entry.getKey();
+            if ((year == null || p.year() == year) && (countryCode == null || p.countryCode().equals(countryCode))) {
+                latest = latest.max(entry.getValue());
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * 인덱스/캐시 갱신이 모두 끝난 뒤에 버전을 올려야
+     * 새 버전으로 이전 데이터가 태깅되지 않는다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        Version next = new Version(bootEpoch, clock.incrementAndGet(), Instant.now());
+
+        if (event.year() != null && event.countryCode() != null) {
+            partitions.put(new HolidayPartition(event.year(), event.countryCode()), next);
+        } else if (event.year() != null) {
+            years.put(event.year(), next);
+        } else if (event.countryCode() != null) {
+            countries.put(event.countryCode(), next);
+        } else {
+            global = next;
+        }
+    }
+
+    public record Version(long bootEpoch, long value, Instant modifiedAt) {
+
+        /**
+         * 재기동 시점과 버전으로 만든 strong ETag
+         */
+        public String etag() {
+            return "\"" + Long.toString(bootEpoch, 36) + "-" + Long.toString(value, 36) + "\"";
+        }
+
+        Version max(Version other) {
+            return other != null && other.value > value ? other : this;
+        }
+    }
+}
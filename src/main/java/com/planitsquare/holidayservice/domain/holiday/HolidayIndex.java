@@ -0,0 +1,501 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import com.planitsquare.holidayservice.application.holiday.HolidayCursor;
+import com.planitsquare.holidayservice.application.holiday.HolidaySearchCond;
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.planitsquare.holidayservice.domain.country.QCountry.country;
+import static com.planitsquare.holidayservice.domain.holiday.QHoliday.holiday;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 공휴일 검색용 인메모리 컬럼형 인덱스.
+ *
+ * (연도, 국가) 파티션마다 (date, id) 순으로 정렬된 primitive 배열을 보관하고,
+ * countryCode / year / from~to / type 조건과 페이징을 SQL 없이 처리한다.
+ * HolidayDataChangedEvent 를 받으면 변경된 범위의 파티션만 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class HolidayIndex {
+
+    private static final int NO_LAUNCH_YEAR = Integer.MIN_VALUE;
+    private static final byte FIXED = 1;
+    private static final byte GLOBAL = 1 << 1;
+
+    private final JPAQueryFactory queryFactory;
+    private final boolean enabled;
+
+    private final Map<HolidayPartition, Partition> partitions = new ConcurrentHashMap<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile boolean ready;
+
+    public HolidayIndex(
+        JPAQueryFactory queryFactory,
+        @Value("${holiday.index.enabled:true}") boolean enabled
+    ) {
+        this.queryFactory = queryFactory;
+        this.enabled = enabled;
+    }
+
+    public boolean isServing() {
+        return enabled && ready;
+    }
+
+    /**
+     * 검색 조건(countryCode / year / from~to / type)은 모두 인덱스로 처리하므로 isServing() 이면 DB 조회가 필요 없다.
+     * 결과는 엔티티 복원 없이 HolidayView 로 만든다.
+     */
+    public Page<HolidayView> search(HolidaySearchCond cond, Pageable pageable) {
+        return page(cond, pageable, Partition::toView);
+    }
+
+    public Slice<HolidayView> searchSlice(HolidaySearchCond cond, Pageable pageable) {
+        return slice(cond, pageable, Partition::toView);
+    }
+
+    public Slice<HolidayView> searchAfter(HolidaySearchCond cond, HolidayCursor cursor, int size) {
+        return after(cond, cursor, size, Partition::toView);
+    }
+
+    private <T> Page<T> page(HolidaySearchCond cond, Pageable pageable, RowMapper<T> mapper) {
+        Selection s = select(cond, null, true);
+        return new PageImpl<>(s.merge(pageable.getOffset(), pageable.getPageSize(), mapper), pageable, s.total);
+    }
+
+    private <T> Slice<T> slice(HolidaySearchCond cond, Pageable pageable, RowMapper<T> mapper) {
+        Selection s = select(cond, null, false);
+        List<T> content = s.merge(pageable.getOffset(), pageable.getPageSize() + 1, mapper);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private <T> Slice<T> after(HolidaySearchCond cond, HolidayCursor cursor, int size, RowMapper<T> mapper) {
+        Selection s = select(cond, cursor, false);
+        List<T> content = s.merge(0, size + 1, mapper);
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private Selection select(HolidaySearchCond cond, HolidayCursor cursor, boolean countRows) {
+
+        int typeMask = 0;
+        if (hasText(cond.getType())) {
+            Optional<HolidayType> type = HolidayType.find(cond.getType());
+            if (type.isEmpty()) {
+                // 알 수 없는 유형은 DB 에서도 결과가 없다
+                return new Selection(0);
+            }
+            typeMask = type.get().getBit();
+        }
+
+        String countryCode = hasText(cond.getCountryCode()) ? cond.getCountryCode() : null;
+        LocalDate from = cond.getFrom();
+        LocalDate to = cond.getTo();
+        boolean ranged = from != null && to != null;
+        // HolidayRepositoryImpl.yearEq 와 동일하게 기간 조건이 있으면 year 는 무시
+        Integer year = ranged ? null : cond.getYear();
+
+        Selection selection = new Selection(typeMask);
+
+        for (Map.Entry<HolidayPartition, Partition> entry : partitions.entrySet()) {
+            HolidayPartition key = entry.getKey();
+            if (countryCode != null && !countryCode.equals(key.countryCode())) {
+                continue;
+            }
+            if (year != null && year != key.year()) {
+                continue;
+            }
+            if (ranged && (key.year() < from.getYear() || key.year() > to.getYear())) {
+                continue;
+            }
+
+            Partition p = entry.getValue();
+            int lo = 0;
+            int hi = p.size();
+            if (ranged) {
+                lo = p.lowerBound((int) from.toEpochDay());
+                hi = p.lowerBound((int) to.toEpochDay() + 1);
+            }
+            if (cursor != null) {
+                lo = Math.max(lo, p.upperBound((int) cursor.date().toEpochDay(), cursor.id()));
+            }
+
+            int matches = p.count(lo, hi, typeMask);
+            if (matches == 0) {
+                continue;
+            }
+            selection.add(p, lo, hi);
+            if (countRows) {
+                selection.total += matches;
+            }
+        }
+        return selection;
+    }
+
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(Partition partition, int row);
+    }
+
+    /**
+     * 조건에 맞는 파티션과 파티션별 [lo, hi) 구간
+     */
+    private static final class Selection {
+
+        private final int typeMask;
+        private final List<Partition> matched = new ArrayList<>();
+        private final List<int[]> bounds = new ArrayList<>();
+        private long total;
+
+        private Selection(int typeMask) {
+            this.typeMask = typeMask;
+        }
+
+        void add(Partition partition, int lo, int hi) {
+            matched.add(partition);
+            bounds.add(new int[]{lo, hi});
+        }
+
+        // 파티션별로 정렬된 구간을 (date, id) 순 우선순위 큐로 병합, offset 은 seek 로 건너뛰고 limit 만큼 복원
+        <T> List<T> merge(long offset, int limit, RowMapper<T> mapper) {
+            int k = matched.size();
+            int[] cursors = new int[k];
+            long remaining = seek(offset, cursors);
+
+            PriorityQueue<Integer> heads = new PriorityQueue<>(Math.max(1, k),
+                (a, b) -> matched.get(a).compare(cursors[a], matched.get(b), cursors[b]));
+            for (int i = 0; i < k; i++) {
+                cursors[i] = matched.get(i).nextMatch(cursors[i], bounds.get(i)[1], typeMask);
+                if (cursors[i] >= 0) {
+                    heads.add(i);
+                }
+            }
+
+            List<T> content = new ArrayList<>(Math.min(limit, 256));
+            while (content.size() < limit && !heads.isEmpty()) {
+                int best = heads.poll();
+                Partition p = matched.get(best);
+                int row = cursors[best];
+                if (remaining > 0) {
+                    remaining--;
+                } else {
+                    content.add(mapper.map(p, row));
+                }
+                cursors[best] = p.nextMatch(row + 1, bounds.get(best)[1], typeMask);
+                if (cursors[best] >= 0) {
+                    heads.add(best);
+                }
+            }
+            return content;
+        }
+
+        /**
+         * offset 앞의 행을 하나씩 꺼내지 않고, 날짜 d 보다 앞선 행 수(파티션별 건수의 합)가 offset 이하인
+         * 가장 큰 d 를 이분 탐색으로 찾아 파티션마다 d 의 첫 행으로 커서를 옮긴다.
+         *
+         * @return 같은 날짜 d 안에서 병합하며 더 건너뛸 행 수
+         */
+        private long seek(long offset, int[] cursors) {
+            int k = matched.size();
+            int minDay = Integer.MAX_VALUE;
+            int maxDay = Integer.MIN_VALUE;
+            for (int i = 0; i < k; i++) {
+                int lo = bounds.get(i)[0];
+                int hi = bounds.get(i)[1];
+                cursors[i] = lo;
+                if (lo < hi) {
+                    minDay = Math.min(minDay, matched.get(i).epochDay(lo));
+                    maxDay = Math.max(maxDay, matched.get(i).epochDay(hi - 1));
+                }
+            }
+            if (offset <= 0 || minDay > maxDay) {
+                return Math.max(0, offset);
+            }
+
+            long low = minDay;
+            long high = (long) maxDay + 1;
+            while (low < high) {
+                int mid = (int) ((low + high + 1) >>> 1);
+                if (countBefore(mid) <= offset) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            long skipped = 0;
+            for (int i = 0; i < k; i++) {
+                Partition p = matched.get(i);
+                int lo = bounds.get(i)[0];
+                cursors[i] = Math.min(Math.max(p.lowerBound((int) low), lo), bounds.get(i)[1]);
+                skipped += p.count(lo, cursors[i], typeMask);
+            }
+            return offset - skipped;
+        }
+
+        // 날짜가 epochDay 보다 앞선 조건 일치 행 수
+        private long countBefore(int epochDay) {
+            long count = 0;
+            for (int i = 0; i < matched.size(); i++) {
+                Partition p = matched.get(i);
+                int lo = bounds.get(i)[0];
+                int hi = Math.min(Math.max(p.lowerBound(epochDay), lo), bounds.get(i)[1]);
+                count += p.count(lo, hi, typeMask);
+            }
+            return count;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildAll() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        rebuildLock.lock();
+        try {
+            List<Holiday> rows = queryFactory
+                .selectFrom(holiday)
+                .join(holiday.country, country).fetchJoin()
+                .orderBy(country.code.asc(), holiday.year.asc(), holiday.date.asc(), holiday.id.asc())
+                .fetch();
+
+            Map<HolidayPartition, Partition> rebuilt = group(rows);
+            partitions.keySet().retainAll(rebuilt.keySet());
+            partitions.putAll(rebuilt);
+            ready = true;
+
+            log.info("[HolidayIndex] 전체 인덱스 적재 완료 - partitions={}, rows={}, elapsedMs={}",
+                rebuilt.size(), rows.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            // 전체 적재 전이라면 ApplicationReadyEvent 시점의 전체 적재가 반영한다
+            if (!ready) {
+                return;
+            }
+
+            List<Holiday> rows = queryFactory
+                .selectFrom(holiday)
+                .join(holiday.country, country).fetchJoin()
+                .where(
+                    event.year() != null ? holiday.year.eq(event.year()) : null,
+                    event.countryCode() != null ? country.code.eq(event.countryCode()) : null
+                )
+                .orderBy(country.code.asc(), holiday.year.asc(), holiday.date.asc(), holiday.id.asc())
+                .fetch();
+
+            Map<HolidayPartition, Partition> rebuilt = group(rows);
+            partitions.keySet().removeIf(key -> event.covers(key) && !rebuilt.containsKey(key));
+            partitions.putAll(rebuilt);
+
+            log.debug("[HolidayIndex] 파티션 갱신 - year={}, countryCode={}, partitions={}",
+                event.year(), event.countryCode(), rebuilt.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Map<HolidayPartition, Partition> group(List<Holiday> rows) {
+        Map<HolidayPartition, List<Holiday>> grouped = new LinkedHashMap<>();
+        for (Holiday h : rows) {
+            HolidayPartition key = new HolidayPartition(h.getYear(), h.getCountry().getCode());
+            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(h);
+        }
+
+        Map<HolidayPartition, Partition> result = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((key, list) -> result.put(key, Partition.of(list)));
+        return result;
+    }
+
+    /**
+     * 단일 (연도, 국가) 파티션. 모든 배열은 (date, id) 순으로 정렬되어 있으며 생성 후 변경되지 않는다.
+     */
+    private static final class Partition {
+
+        private final Country country;
+        private final long[] ids;
+        private final int[] epochDays;
+        private final int[] typeMasks;
+        private final int[] localNameIds;
+        private final int[] nameIds;
+        private final int[] launchYears;
+        private final byte[] flags;
+        // 유형 bit 별 누적 건수: typeCounts[bit 위치][i] = [0, i) 중 해당 유형 행 수
+        private final int[][] typeCounts;
+        private final String[] dictionary;
+
+        private Partition(Country country, int size, String[] dictionary) {
+            this.country = country;
+            this.ids = new long[size];
+            this.epochDays = new int[size];
+            this.typeMasks = new int[size];
+            this.localNameIds = new int[size];
+            this.nameIds = new int[size];
+            this.launchYears = new int[size];
+            this.flags = new byte[size];
+            this.typeCounts = new int[HolidayType.values().length][size + 1];
+            this.dictionary = dictionary;
+        }
+
+        static Partition of(List<Holiday> sorted) {
+            // 파티션 내 문자열(localName, name)은 사전에 한 번만 저장하고 id 로 참조
+            Map<String, Integer> ids = new HashMap<>();
+            List<String> dictionary = new ArrayList<>();
+            int size = sorted.size();
+
+            int[] localNameIds = new int[size];
+            int[] nameIds = new int[size];
+            for (int i = 0; i < size; i++) {
+                Holiday h = sorted.get(i);
+                localNameIds[i] = intern(h.getLocalName(), ids, dictionary);
+                nameIds[i] = intern(h.getName(), ids, dictionary);
+            }
+
+            Partition p = new Partition(sorted.get(0).getCountry(), size, dictionary.toArray(new String[0]));
+            for (int i = 0; i < size; i++) {
+                Holiday h = sorted.get(i);
+                p.ids[i] = h.getId();
+                p.epochDays[i] = (int) h.getDate().toEpochDay();
+                p.typeMasks[i] = h.getTypeMask();
+                p.localNameIds[i] = localNameIds[i];
+                p.nameIds[i] = nameIds[i];
+                p.launchYears[i] = h.getLaunchYear() == null ? NO_LAUNCH_YEAR : h.getLaunchYear();
+                p.flags[i] = (byte) ((h.isFixed() ? FIXED : 0) | (h.isGlobalHoliday() ? GLOBAL : 0));
+                for (int[] counts : p.typeCounts) {
+                    counts[i + 1] = counts[i];
+                }
+                for (HolidayType type : HolidayType.values()) {
+                    if ((p.typeMasks[i] & type.getBit()) != 0) {
+                        p.typeCounts[Integer.numberOfTrailingZeros(type.getBit())][i + 1]++;
+                    }
+                }
+            }
+            return p;
+        }
+
+        private static int intern(String value, Map<String, Integer> ids, List<String> dictionary) {
+            return ids.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        // epochDay 이상인 첫 번째 행의 위치
+        int lowerBound(int epochDay) {
+            int lo = 0;
+            int hi = epochDays.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (epochDays[mid] < epochDay) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // (epochDay, id) 보다 뒤에 있는 첫 번째 행의 위치
+        int upperBound(int epochDay, long id) {
+            int row = lowerBound(epochDay);
+            while (row < epochDays.length && epochDays[row] == epochDay && ids[row] <= id) {
+                row++;
+            }
+            return row;
+        }
+
+        int epochDay(int row) {
+            return epochDays[row];
+        }
+
+        // typeMask 는 0(유형 조건 없음) 또는 유형 하나의 bit
+        int count(int lo, int hi, int typeMask) {
+            if (hi <= lo) {
+                return 0;
+            }
+            if (typeMask == 0) {
+                return hi - lo;
+            }
+            int[] counts = typeCounts[Integer.numberOfTrailingZeros(typeMask)];
+            return counts[hi] - counts[lo];
+        }
+
+        int nextMatch(int from, int hi, int typeMask) {
+            for (int i = from; i < hi; i++) {
+                if (typeMask == 0 || (typeMasks[i] & typeMask) != 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int compare(int row, Partition other, int otherRow) {
+            if (epochDays[row] != other.epochDays[otherRow]) {
+                return Integer.compare(epochDays[row], other.epochDays[otherRow]);
+            }
+            return Long.compare(ids[row], other.ids[otherRow]);
+        }
+
+        HolidayView toView(int row) {
+            LocalDate date = LocalDate.ofEpochDay(epochDays[row]);
+            return new HolidayView(
+                ids[row],
+                country.getCode(),
+                country.getName(),
+                date,
+                date.getYear(),
+                dictionary[localNameIds[row]],
+                dictionary[nameIds[row]],
+                (flags[row] & FIXED) != 0,
+                (flags[row] & GLOBAL) != 0,
+                launchYears[row] == NO_LAUNCH_YEAR ? null : launchYears[row],
+                typeMasks[row]
+            );
+        }
+    }
+}
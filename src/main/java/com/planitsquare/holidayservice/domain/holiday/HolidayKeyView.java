@@ -0,0 +1,14 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import java.time.LocalDate;
+
+/**
+ * 중복 판별에 필요한 컬럼만 담은 조회 전용 projection (엔티티 로딩 없이 사용)
+ */
+public record HolidayKeyView(
+    Integer year,
+    String countryCode,
+    LocalDate date,
+    String localName,
+    int typeMask
+) {}
@@ -0,0 +1,7 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+/**
+ * 공휴일 데이터의 동기화/캐시 단위 (연도 + 국가)
+ */
+public record HolidayPartition(int year, String countryCode) {
+}
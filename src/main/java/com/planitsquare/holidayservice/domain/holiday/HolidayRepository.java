@@ -2,6 +2,7 @@ package com.planitsquare.holidayservice.domain.holiday;
 
 
 import com.planitsquare.holidayservice.domain.country.Country;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
@@ -13,6 +14,16 @@ public interface HolidayRepository extends JpaRepository<Holiday, Long> ,Holiday
 
     List<Holiday> findByCountryAndYear(Country country, int year);
 
+    // 재동기화 대상 범위 조회 (국가를 함께 로딩해 파티션별로 묶는다)
+    @EntityGraph(attributePaths = "country")
+    List<Holiday> findWithCountryByYear(Integer year);
+
+    @EntityGraph(attributePaths = "country")
+    List<Holiday> findWithCountryByCountryAndYearBetween(Country country, Integer fromYear, Integer toYear);
+
+    // 영업일 달력 생성용
+    List<Holiday> findByCountryCodeAndYear(String countryCode, int year);
+
     // 연도/국가 단위 전체 삭제 (Refresh/삭제 기능용)
     long deleteByCountryAndYear(Country country, Integer year);
 
@@ -1,10 +1,29 @@
 package com.planitsquare.holidayservice.domain.holiday;
 
+import com.planitsquare.holidayservice.application.holiday.HolidayCursor;
 import com.planitsquare.holidayservice.application.holiday.HolidaySearchCond;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface HolidayRepositoryCustom {
 
-    Page<Holiday> searchHolidays(HolidaySearchCond cond, Pageable pageable);
+    // 엔티티 로딩 없이 응답에 필요한 컬럼만 조회 (조회 API 용)
+    Page<HolidayView> searchHolidayViews(HolidaySearchCond cond, Pageable pageable);
+
+    // count 쿼리 없이 다음 페이지 존재 여부만 포함
+    Slice<HolidayView> searchHolidayViewSlice(HolidaySearchCond cond, Pageable pageable);
+
+    // (date, id) 기준 cursor 이후 size 건. cursor 가 null 이면 첫 페이지
+    Slice<HolidayView> searchHolidayViewsAfter(HolidaySearchCond cond, HolidayCursor cursor, int size);
+
+    // (date, id) 순 forward-only 스트림. 트랜잭션 안에서 소비하고 close 해야 한다
+    Stream<Holiday> streamHolidays(String countryCode, Integer year, int fetchSize);
+
+    // 대량 동기화 파이프라인의 중복 판별용 (연도 목록 단위 일괄 조회)
+    List<HolidayKeyView> findKeyViewsByYearIn(Collection<Integer> years);
 }
\ No newline at end of file
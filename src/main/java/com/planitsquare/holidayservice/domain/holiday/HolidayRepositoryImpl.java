@@ -1,65 +1,197 @@
 package com.planitsquare.holidayservice.domain.holiday;
 
+import com.planitsquare.holidayservice.application.holiday.HolidayCursor;
 import com.planitsquare.holidayservice.application.holiday.HolidaySearchCond;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.planitsquare.holidayservice.domain.country.QCountry.country;
 import static com.planitsquare.holidayservice.domain.holiday.QHoliday.holiday;
 import static org.springframework.util.StringUtils.hasText;
 
-@RequiredArgsConstructor
 public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
 
+    // 검색 응답에 필요한 컬럼만 조회 (엔티티 생성 / 영속성 컨텍스트 등록 / dirty checking 스냅샷 없음)
+    private static final ConstructorExpression<HolidayView> VIEW = Projections.constructor(
+        HolidayView.class,
+        holiday.id,
+        country.code,
+        country.name,
+        holiday.date,
+        holiday.year,
+        holiday.localName,
+        holiday.name,
+        holiday.fixed,
+        holiday.globalHoliday,
+        holiday.launchYear,
+        holiday.typeMask
+    );
+
     private final JPAQueryFactory queryFactory;
+    private final HolidayIndex holidayIndex;
+    private final HolidayCountCache holidayCountCache;
+    // 인덱스가 답하면 트랜잭션(커넥션 획득)을 시작하지 않고, DB 로 조회할 때만 읽기 전용 트랜잭션을 연다
+    private final TransactionTemplate readOnlyTx;
+
+    public HolidayRepositoryImpl(
+        JPAQueryFactory queryFactory,
+        HolidayIndex holidayIndex,
+        HolidayCountCache holidayCountCache,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.queryFactory = queryFactory;
+        this.holidayIndex = holidayIndex;
+        this.holidayCountCache = holidayCountCache;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @Override
+    public Page<HolidayView> searchHolidayViews(HolidaySearchCond cond, Pageable pageable) {
+
+        if (holidayIndex.isServing()) {
+            return holidayIndex.search(cond, pageable);
+        }
+
+        return readOnlyTx.execute(status -> {
+            List<HolidayView> content = queryFactory
+                .select(VIEW)
+                .from(holiday)
+                .join(holiday.country, country)
+                .where(searchConditions(cond))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(holiday.date.asc(), holiday.id.asc())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, pageable.getPageSize())
+                .fetch();
+
+            return PageableExecutionUtils.getPage(content, pageable, () -> holidayCountCache.get(cond, () -> count(cond)));
+        });
+    }
 
     @Override
-    public Page<Holiday> searchHolidays(HolidaySearchCond cond, Pageable pageable) {
+    public Slice<HolidayView> searchHolidayViewSlice(HolidaySearchCond cond, Pageable pageable) {
+
+        if (holidayIndex.isServing()) {
+            return holidayIndex.searchSlice(cond, pageable);
+        }
+
+        List<HolidayView> content = readOnlyTx.execute(status -> queryFactory
+            .select(VIEW)
+            .from(holiday)
+            .join(holiday.country, country)
+            .where(searchConditions(cond))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1L)
+            .orderBy(holiday.date.asc(), holiday.id.asc())
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, pageable.getPageSize() + 1)
+            .fetch());
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Slice<HolidayView> searchHolidayViewsAfter(HolidaySearchCond cond, HolidayCursor cursor, int size) {
+
+        if (holidayIndex.isServing()) {
+            return holidayIndex.searchAfter(cond, cursor, size);
+        }
+
+        List<HolidayView> content = readOnlyTx.execute(status -> queryFactory
+            .select(VIEW)
+            .from(holiday)
+            .join(holiday.country, country)
+            .where(searchConditions(cond))
+            .where(after(cursor))
+            .orderBy(holiday.date.asc(), holiday.id.asc())
+            .limit(size + 1L)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, size + 1)
+            .fetch());
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
 
-        List<Holiday> content = queryFactory
+    @Override
+    public Stream<Holiday> streamHolidays(String countryCode, Integer year, int fetchSize) {
+        // 결과 전체를 메모리에 올리지 않도록 fetch size 단위로 커서를 읽고, 읽기 전용으로 dirty checking 스냅샷을 생략
+        return queryFactory
             .selectFrom(holiday)
-            .leftJoin(holiday.country, country).fetchJoin()
+            .join(holiday.country, country).fetchJoin()
             .where(
-                countryCodeEq(cond.getCountryCode()),
-                yearEq(cond.getYear(), cond.getFrom(), cond.getTo()),
-                dateBetween(cond.getFrom(), cond.getTo()),
-                typeContains(cond.getType())
+                countryCodeEq(countryCode),
+                year != null ? holiday.year.eq(year) : null
             )
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .orderBy(holiday.date.asc())
-            .fetch();
+            .orderBy(holiday.date.asc(), holiday.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream();
+    }
 
+    @Override
+    public List<HolidayKeyView> findKeyViewsByYearIn(Collection<Integer> years) {
+        return queryFactory
+            .select(Projections.constructor(
+                HolidayKeyView.class,
+                holiday.year,
+                country.code,
+                holiday.date,
+                holiday.localName,
+                holiday.typeMask
+            ))
+            .from(holiday)
+            .join(holiday.country, country)
+            .where(holiday.year.in(years))
+            .fetch();
+    }
 
+    private long count(HolidaySearchCond cond) {
         Long total = queryFactory
             .select(holiday.count())
             .from(holiday)
-            .leftJoin(holiday.country, country)
-            .where(
-                countryCodeEq(cond.getCountryCode()),
-                yearEq(cond.getYear(), cond.getFrom(), cond.getTo()),
-                dateBetween(cond.getFrom(), cond.getTo()),
-                typeContains(cond.getType())
-            )
+            .join(holiday.country, country)
+            .where(searchConditions(cond))
             .fetchOne();
 
-        if (total == null) {
-            total = 0L;
-        }
-
-        return new PageImpl<>(content, pageable, total);
-
-
-
+        return total == null ? 0L : total;
     }
 
+    private Predicate[] searchConditions(HolidaySearchCond cond) {
+        return new Predicate[]{
+            countryCodeEq(cond.getCountryCode()),
+            yearEq(cond.getYear(), cond.getFrom(), cond.getTo()),
+            dateBetween(cond.getFrom(), cond.getTo()),
+            typeContains(cond.getType())
+        };
+    }
 
     private BooleanExpression countryCodeEq(String countryCode) {
         return hasText(countryCode) ? country.code.eq(countryCode) : null;
@@ -79,8 +211,22 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
         return holiday.date.between(from,to);
     }
 
+    private BooleanExpression after(HolidayCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return holiday.date.gt(cursor.date())
+            .or(holiday.date.eq(cursor.date()).and(holiday.id.gt(cursor.id())));
+    }
+
+    // 유형 이름과 정확히 일치(대소문자 무시)하는 행만, 알 수 없는 유형이면 결과 없음
     private BooleanExpression typeContains(String type) {
-        return hasText(type) ? holiday.types.containsIgnoreCase(type) : null;
+        if (!hasText(type)) {
+            return null;
+        }
+        return HolidayType.find(type)
+            .map(t -> holiday.typeMask.in(t.masksContaining()))
+            .orElseGet(Expressions.FALSE::isTrue);
     }
 
 
@@ -0,0 +1,77 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * (연도, 국가) 단위 마지막 동기화 정보.
+ * Nager 응답 본문 해시와 ETag / Last-Modified 를 보관해 변경 없는 응답은 엔티티 조회 전에 건너뛴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_sync_manifest_year_country",
+            columnNames = {"holiday_year", "country_code"}
+        )
+    }
+)
+public class HolidaySyncManifest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_sync_manifest_seq")
+    @SequenceGenerator(name = "holiday_sync_manifest_seq", sequenceName = "holiday_sync_manifest_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "holiday_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "country_code", nullable = false, length = 10)
+    private String countryCode;
+
+    // 응답 본문 SHA-256 (hex)
+    @Column(length = 64)
+    private String payloadHash;
+
+    @Column(length = 200)
+    private String etag;
+
+    @Column(length = 100)
+    private String lastModified;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSyncedAt;
+
+    public HolidaySyncManifest(int year, String countryCode) {
+        this.year = year;
+        this.countryCode = countryCode;
+    }
+
+    public boolean matches(String payloadHash) {
+        return payloadHash != null && Objects.equals(this.payloadHash, payloadHash);
+    }
+
+    public void record(String payloadHash, String etag, String lastModified, LocalDateTime syncedAt) {
+        this.payloadHash = payloadHash;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.lastSyncedAt = syncedAt;
+    }
+
+    // 변경 없음(304 또는 동일 해시) 확인 시 검증 시각만 갱신
+    public void touch(String etag, String lastModified, LocalDateTime syncedAt) {
+        if (etag != null) {
+            this.etag = etag;
+        }
+        if (lastModified != null) {
+            this.lastModified = lastModified;
+        }
+        this.lastSyncedAt = syncedAt;
+    }
+}
@@ -0,0 +1,25 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface HolidaySyncManifestRepository extends JpaRepository<HolidaySyncManifest, Long> {
+
+    Optional<HolidaySyncManifest> findByYearAndCountryCode(Integer year, String countryCode);
+
+    List<HolidaySyncManifest> findByYearIn(Collection<Integer> years);
+
+    List<HolidaySyncManifest> findByYear(Integer year);
+
+    List<HolidaySyncManifest> findByCountryCodeAndYearBetween(String countryCode, Integer fromYear, Integer toYear);
+
+    // Holiday 삭제 시 같은 범위의 manifest 도 함께 삭제해 다음 동기화가 건너뛰지 않도록 한다
+    long deleteByYearAndCountryCode(Integer year, String countryCode);
+
+    long deleteByYear(Integer year);
+
+    long deleteByCountryCode(String countryCode);
+}
@@ -0,0 +1,111 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Nager.Date 공휴일 유형.
+ * bit 값은 인덱스/저장소에서 비트마스크로 사용되므로 변경하지 않는다.
+ */
+@Getter
+public enum HolidayType {
+
+    PUBLIC("Public", 1),
+    BANK("Bank", 1 << 1),
+    SCHOOL("School", 1 << 2),
+    AUTHORITIES("Authorities", 1 << 3),
+    OPTIONAL("Optional", 1 << 4),
+    OBSERVANCE("Observance", 1 << 5);
+
+    // values() 는 호출마다 배열을 복사하므로 한 번만 만든다
+    private static final HolidayType[] VALUES = values();
+    // 모든 유형 조합의 개수 (비트마스크 0 ~ ALL_MASKS - 1)
+    private static final int ALL_MASKS = 1 << 6;
+    // 마스크별 유형 이름 목록 (응답 변환 시 매번 만들지 않도록 미리 계산)
+    private static final List<List<String>> NAMES_BY_MASK = new ArrayList<>(ALL_MASKS);
+
+    static {
+        for (int mask = 0; mask < ALL_MASKS; mask++) {
+            List<String> names = new ArrayList<>();
+            for (HolidayType type : VALUES) {
+                if ((mask & type.bit) != 0) {
+                    names.add(type.value);
+                }
+            }
+            NAMES_BY_MASK.add(List.copyOf(names));
+        }
+    }
+
+    private final String value;
+    private final int bit;
+
+    HolidayType(String value, int bit) {
+        this.value = value;
+        this.bit = bit;
+    }
+
+    public static Optional<HolidayType> find(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        String trimmed = value.trim();
+        for (HolidayType type : VALUES) {
+            if (type.value.equalsIgnoreCase(trimmed)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 알 수 없는 유형은 무시
+    public static int maskOf(Collection<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (String value : values) {
+            mask |= bitOf(value);
+        }
+        return mask;
+    }
+
+    // 동기화 시 행마다 호출되므로 Optional / trim 없이 비교 (공백이 있는 값만 trim)
+    private static int bitOf(String value) {
+        if (value == null) {
+            return 0;
+        }
+        for (HolidayType type : VALUES) {
+            if (type.value.equalsIgnoreCase(value)) {
+                return type.bit;
+            }
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() == value.length()) {
+            return 0;
+        }
+        return bitOf(trimmed);
+    }
+
+    /**
+     * 이 유형을 포함하는 모든 마스크 값.
+     * type_mask 컬럼을 IN 조건으로 조회하면 (country_id, holiday_year, type_mask) 인덱스를 그대로 탈 수 있다.
+     */
+    public List<Integer> masksContaining() {
+        List<Integer> masks = new ArrayList<>(ALL_MASKS / 2);
+        for (int mask = 0; mask < ALL_MASKS; mask++) {
+            if ((mask & bit) != 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
+
+    // 선언 순서대로 정렬된 불변 목록
+    public static List<String> namesOf(int mask) {
+        return NAMES_BY_MASK.get(mask & (ALL_MASKS - 1));
+    }
+}
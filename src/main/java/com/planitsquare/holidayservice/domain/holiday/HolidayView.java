@@ -0,0 +1,28 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 검색 결과 한 건을 담은 조회 전용 projection (엔티티 생성 / 영속성 컨텍스트 등록 없이 사용).
+ * 응답 DTO 로의 변환은 application / presentation 계층에서 한다.
+ */
+public record HolidayView(
+    Long id,
+    String countryCode,
+    String countryName,
+    LocalDate date,
+    int year,
+    String localName,
+    String name,
+    boolean fixed,
+    boolean globalHoliday,
+    Integer launchYear,
+    int typeMask
+) {
+
+    // 선언 순서대로 정렬된 유형 이름
+    public List<String> types() {
+        return HolidayType.namesOf(typeMask);
+    }
+}
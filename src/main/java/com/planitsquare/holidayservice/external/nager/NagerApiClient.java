@@ -1,40 +1,180 @@
 package com.planitsquare.holidayservice.external.nager;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planitsquare.holidayservice.external.nager.dto.NagerCountryResponse;
 import com.planitsquare.holidayservice.external.nager.dto.NagerHolidayResponse;
-import lombok.RequiredArgsConstructor;
+import com.planitsquare.holidayservice.external.nager.dto.NagerHolidaysPayload;
+import com.planitsquare.holidayservice.global.exception.BusinessException;
+import com.planitsquare.holidayservice.global.exception.ErrorCode;
+import com.planitsquare.holidayservice.global.metrics.HolidayMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class NagerApiClient {
 
     private final RestClient nagerRestClient;
+    private final ObjectMapper objectMapper;
+    private final HolidayMetrics holidayMetrics;
+    // Nager 로 동시에 나가는 요청 수(AIMD) + 서킷 브레이커
+    private final NagerUpstreamGuard upstreamGuard;
 
-    public List<NagerCountryResponse> getAvailableCountries(){
-        NagerCountryResponse[] body = nagerRestClient.get()
-            .uri("/AvailableCountries")
-            .retrieve()
-            .body(NagerCountryResponse[].class);
+    public NagerApiClient(
+        RestClient nagerRestClient,
+        ObjectMapper objectMapper,
+        HolidayMetrics holidayMetrics,
+        NagerUpstreamGuard upstreamGuard
+    ) {
+        this.nagerRestClient = nagerRestClient;
+        this.objectMapper = objectMapper;
+        this.holidayMetrics = holidayMetrics;
+        this.upstreamGuard = upstreamGuard;
+    }
 
-        return body == null ? List.of() : Arrays.asList(body);
+    // 현재 진행 중인 upstream 요청 수
+    public int inFlight() {
+        return upstreamGuard.inFlight();
+    }
 
+    // 호출 슬롯을 기다리는 요청 수
+    public int waiting() {
+        return upstreamGuard.waiting();
+    }
+
+    public List<NagerCountryResponse> getAvailableCountries(){
+        acquirePermit();
+        long start = System.nanoTime();
+        String status = "ERROR";
+        NagerUpstreamGuard.Outcome outcome = NagerUpstreamGuard.Outcome.FAILED;
+        Duration retryAfter = Duration.ZERO;
+        try {
+            NagerCountryResponse[] body = nagerRestClient.get()
+                .uri("/AvailableCountries")
+                .retrieve()
+                .body(NagerCountryResponse[].class);
+
+            status = "200";
+            outcome = NagerUpstreamGuard.Outcome.OK;
+            return body == null ? List.of() : Arrays.asList(body);
+        } catch (RuntimeException e) {
+            status = statusOf(e);
+            outcome = NagerUpstreamGuard.outcomeOf(e);
+            retryAfter = NagerUpstreamGuard.retryAfter(e);
+            throw e;
+        } finally {
+            holidayMetrics.recordUpstream("available_countries", status, System.nanoTime() - start);
+            upstreamGuard.release(outcome, retryAfter);
+        }
     }
 
     public List<NagerHolidayResponse> getPublicHolidays(int year, String countryCode) {
-        NagerHolidayResponse[] body = nagerRestClient.get()
+        return getPublicHolidays(year, countryCode, null, null).holidays();
+    }
+
+    /**
+     * 이전 응답의 ETag / Last-Modified 로 조건부 요청을 보낸다.
+     * 304 이면 본문 없이 notModified, 200 이면 본문과 함께 본문 SHA-256 해시를 반환한다.
+     */
+    public NagerHolidaysPayload getPublicHolidays(int year, String countryCode, String etag, String lastModified) {
+        acquirePermit();
+        long start = System.nanoTime();
+        String status = "ERROR";
+        NagerUpstreamGuard.Outcome outcome = NagerUpstreamGuard.Outcome.FAILED;
+        Duration retryAfter = Duration.ZERO;
+        try {
+            NagerHolidaysPayload payload = requestPublicHolidays(year, countryCode, etag, lastModified);
+            status = payload.notModified() ? "304" : "200";
+            outcome = NagerUpstreamGuard.Outcome.OK;
+            return payload;
+        } catch (RuntimeException e) {
+            status = statusOf(e);
+            outcome = NagerUpstreamGuard.outcomeOf(e);
+            retryAfter = NagerUpstreamGuard.retryAfter(e);
+            throw e;
+        } finally {
+            holidayMetrics.recordUpstream("public_holidays", status, System.nanoTime() - start);
+            upstreamGuard.release(outcome, retryAfter);
+        }
+    }
+
+    private NagerHolidaysPayload requestPublicHolidays(int year, String countryCode, String etag, String lastModified) {
+        ResponseEntity<byte[]> response = nagerRestClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path("/PublicHolidays/{year}/{countryCode}")
                 .build(year, countryCode))
+            .headers(headers -> {
+                if (etag != null) {
+                    headers.setIfNoneMatch(etag);
+                }
+                if (lastModified != null) {
+                    headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                }
+            })
             .retrieve()
-            .body(NagerHolidayResponse[].class);
+            .toEntity(byte[].class);
+
+        String responseEtag = response.getHeaders().getETag();
+        String responseLastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return NagerHolidaysPayload.notModified(responseEtag, responseLastModified);
+        }
+
+        byte[] body = response.getBody();
+        if (body == null || body.length == 0) {
+            return NagerHolidaysPayload.empty();
+        }
+
+        try {
+            NagerHolidayResponse[] holidays = objectMapper.readValue(body, NagerHolidayResponse[].class);
+            return new NagerHolidaysPayload(false, Arrays.asList(holidays), sha256(body), responseEtag, responseLastModified);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Nager 공휴일 응답 파싱 실패 - year=" + year + ", countryCode=" + countryCode, e);
+        }
+    }
+
+    // 지표 태그용 상태: 응답을 받았으면 HTTP 상태 코드, 연결·타임아웃 실패는 IO_ERROR
+    private static String statusOf(RuntimeException e) {
+        if (e instanceof RestClientResponseException responseException) {
+            return String.valueOf(responseException.getStatusCode().value());
+        }
+        if (e instanceof ResourceAccessException) {
+            return "IO_ERROR";
+        }
+        return "ERROR";
+    }
+
+    // 서킷이 열려 있으면 NagerCircuitOpenException 으로 즉시 실패
+    private void acquirePermit() {
+        try {
+            upstreamGuard.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.NAGER_API_ERROR, "Nager.Date API 호출 대기 중 인터럽트 발생");
+        }
+    }
 
-        return body == null ? List.of() : Arrays.asList(body);
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
 }
@@ -0,0 +1,22 @@
+package com.planitsquare.holidayservice.external.nager;
+
+import com.planitsquare.holidayservice.global.exception.BusinessException;
+import com.planitsquare.holidayservice.global.exception.ErrorCode;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서킷이 열려 있어 Nager 를 호출하지 않고 즉시 실패한 경우.
+ * retryAt 이후 다시 시도하도록 호출자가 작업을 재스케줄한다.
+ */
+@Getter
+public class NagerCircuitOpenException extends BusinessException {
+
+    private final Instant retryAt;
+
+    public NagerCircuitOpenException(Instant retryAt) {
+        super(ErrorCode.NAGER_API_UNAVAILABLE, "Nager.Date API 서킷 open - retryAt=" + retryAt);
+        this.retryAt = retryAt;
+    }
+}
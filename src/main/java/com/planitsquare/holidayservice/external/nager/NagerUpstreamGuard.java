@@ -0,0 +1,266 @@
+package com.planitsquare.holidayservice.external.nager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Nager 호출 앞단의 동시성 제한 + 서킷 브레이커.
+ *
+ * - 동시 요청 한도는 AIMD 로 조정한다. 응답을 받을 때마다 limit += 1/limit (한도만큼 응답이 오면 약 +1),
+ *   429·503(throttle) 또는 5xx·연결 실패 시 limit *= decrease-ratio (decrease-cooldown-ms 안에서는 한 번만 감소)
+ * - Retry-After 를 받으면 그 시각까지 새 요청을 보내지 않는다
+ * - 5xx·연결 실패가 failure-threshold 번 연속되면 open-ms 동안 호출 없이 즉시 실패(NagerCircuitOpenException),
+ *   이후 한 건만 시험 호출(half-open)해 성공하면 닫고 실패하면 다시 연다
+ */
+@Slf4j
+@Component
+public class NagerUpstreamGuard {
+
+    public enum CircuitState { CLOSED, HALF_OPEN, OPEN }
+
+    /**
+     * 호출 결과 분류
+     * - OK: upstream 이 정상 응답 (404 등 요청 자체의 4xx 포함)
+     * - THROTTLED: 429 / 503, 한도만 줄이고 서킷 실패로는 세지 않는다
+     * - FAILED: 그 외 5xx, 연결·타임아웃 실패
+     */
+    public enum Outcome { OK, THROTTLED, FAILED }
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition changed = lock.newCondition();
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final double decreaseRatio;
+    private final long decreaseCooldownNanos;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    // 이하 lock 으로 보호
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private long lastDecreaseNanos;
+    private long pausedUntilNanos;
+    private int consecutiveFailures;
+    private CircuitState state = CircuitState.CLOSED;
+    private long openUntilNanos;
+    private boolean probeInFlight;
+
+    public NagerUpstreamGuard(
+        @Value("${holiday.nager.max-concurrent-requests:20}") int maxConcurrentRequests,
+        @Value("${holiday.nager.min-concurrent-requests:1}") int minConcurrentRequests,
+        @Value("${holiday.nager.initial-concurrent-requests:10}") int initialConcurrentRequests,
+        @Value("${holiday.nager.decrease-ratio:0.5}") double decreaseRatio,
+        @Value("${holiday.nager.decrease-cooldown-ms:1000}") long decreaseCooldownMs,
+        @Value("${holiday.nager.circuit.failure-threshold:5}") int failureThreshold,
+        @Value("${holiday.nager.circuit.open-ms:10000}") long openMs
+    ) {
+        this.minLimit = Math.max(1, minConcurrentRequests);
+        this.maxLimit = Math.max(this.minLimit, maxConcurrentRequests);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialConcurrentRequests));
+        this.decreaseRatio = decreaseRatio;
+        this.decreaseCooldownNanos = TimeUnit.MILLISECONDS.toNanos(decreaseCooldownMs);
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+        this.lastDecreaseNanos = System.nanoTime() - decreaseCooldownNanos;
+    }
+
+    /**
+     * 호출 슬롯을 얻을 때까지 대기한다. 서킷이 열려 있으면 기다리지 않고 즉시 실패한다.
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            waiting++;
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+
+                    if (state == CircuitState.OPEN) {
+                        if (now < openUntilNanos) {
+                            throw new NagerCircuitOpenException(Instant.now().plusNanos(openUntilNanos - now));
+                        }
+                        state = CircuitState.HALF_OPEN;
+                        probeInFlight = false;
+                        log.info("[NagerUpstreamGuard] 서킷 half-open - 시험 호출 1건 허용");
+                    }
+
+                    if (state == CircuitState.HALF_OPEN) {
+                        // 이전 요청이 모두 끝난 뒤 한 건만 보낸다
+                        if (!probeInFlight && inFlight == 0) {
+                            probeInFlight = true;
+                            inFlight++;
+                            return;
+                        }
+                        changed.await();
+                        continue;
+                    }
+
+                    if (now < pausedUntilNanos) {
+                        changed.awaitNanos(pausedUntilNanos - now);
+                        continue;
+                    }
+
+                    if (inFlight < currentLimit()) {
+                        inFlight++;
+                        return;
+                    }
+                    changed.await();
+                }
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * acquire 한 슬롯을 반납하고 결과에 따라 한도·서킷 상태를 조정한다.
+     *
+     * @param retryAfter upstream 이 알려준 재시도 대기 시간 (없으면 ZERO)
+     */
+    public void release(Outcome outcome, Duration retryAfter) {
+        lock.lock();
+        try {
+            inFlight--;
+            long now = System.nanoTime();
+
+            if (outcome == Outcome.OK) {
+                consecutiveFailures = 0;
+                if (state == CircuitState.HALF_OPEN) {
+                    state = CircuitState.CLOSED;
+                    log.info("[NagerUpstreamGuard] 서킷 close - limit={}", currentLimit());
+                }
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+
+            } else {
+                if (now - lastDecreaseNanos >= decreaseCooldownNanos) {
+                    limit = Math.max(minLimit, limit * decreaseRatio);
+                    lastDecreaseNanos = now;
+                    log.warn("[NagerUpstreamGuard] upstream {} - 동시 요청 한도 감소 limit={}", outcome, currentLimit());
+                }
+                if (!retryAfter.isZero() && !retryAfter.isNegative()) {
+                    pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+                }
+                if (outcome == Outcome.FAILED) {
+                    consecutiveFailures++;
+                }
+                if (state == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                    open(now);
+                }
+            }
+
+            if (state == CircuitState.HALF_OPEN) {
+                probeInFlight = false;
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 진행 중인 upstream 요청 수
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 슬롯을 기다리는 요청 수
+    public int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CircuitState state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static Outcome outcomeOf(RuntimeException e) {
+        if (e instanceof RestClientResponseException response) {
+            int status = response.getStatusCode().value();
+            if (status == HttpStatus.TOO_MANY_REQUESTS.value() || status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                return Outcome.THROTTLED;
+            }
+            return response.getStatusCode().is5xxServerError() ? Outcome.FAILED : Outcome.OK;
+        }
+        if (e instanceof ResourceAccessException) {
+            return Outcome.FAILED;
+        }
+        // 응답 파싱 실패 등은 upstream 상태와 무관
+        return Outcome.OK;
+    }
+
+    /**
+     * 응답의 Retry-After (초 또는 HTTP-date). 없거나 해석할 수 없으면 ZERO.
+     */
+    public static Duration retryAfter(Throwable e) {
+        if (!(e instanceof RestClientResponseException response) || response.getResponseHeaders() == null) {
+            return Duration.ZERO;
+        }
+        String value = response.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Duration.ZERO;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            Duration until = Duration.between(
+                Instant.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException ignored) {
+            return Duration.ZERO;
+        }
+    }
+
+    private void open(long now) {
+        state = CircuitState.OPEN;
+        openUntilNanos = now + openNanos;
+        log.warn("[NagerUpstreamGuard] 서킷 open - consecutiveFailures={}, openMs={}",
+            consecutiveFailures, TimeUnit.NANOSECONDS.toMillis(openNanos));
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+}
@@ -0,0 +1,25 @@
+package com.planitsquare.holidayservice.external.nager.dto;
+
+import java.util.List;
+
+/**
+ * 조건부 요청(If-None-Match / If-Modified-Since) 결과.
+ * notModified 이면 holidays 는 비어 있고 contentHash 는 null 이다.
+ */
+public record NagerHolidaysPayload(
+    boolean notModified,
+    List<NagerHolidayResponse> holidays,
+    String contentHash,
+    String etag,
+    String lastModified
+) {
+
+    public static NagerHolidaysPayload notModified(String etag, String lastModified) {
+        return new NagerHolidaysPayload(true, List.of(), null, etag, lastModified);
+    }
+
+    // 404 등 데이터가 없는 경우
+    public static NagerHolidaysPayload empty() {
+        return new NagerHolidaysPayload(false, List.of(), null, null, null);
+    }
+}
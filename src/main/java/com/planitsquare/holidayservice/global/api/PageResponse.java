@@ -2,6 +2,7 @@ package com.planitsquare.holidayservice.global.api;
 
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -9,20 +10,22 @@ import java.util.List;
 public class PageResponse<T> {
 
     private final List<T> content;
-    private final int page;          // 현재 페이지 번호 (0부터 시작)
+    private final Integer page;          // 현재 페이지 번호 (0부터 시작, 커서 페이징이면 null)
     private final int size;          // 요청한 페이지 크기
-    private final long totalElements; // 전체 요소 수
-    private final int totalPages;    // 전체 페이지 수
+    private final Long totalElements; // 전체 요소 수 (슬라이스/커서 페이징이면 null)
+    private final Integer totalPages;    // 전체 페이지 수 (슬라이스/커서 페이징이면 null)
     private final boolean first;     // 첫 페이지 여부
     private final boolean last;      // 마지막 페이지 여부
+    private final String nextCursor; // 다음 페이지 커서 (커서 페이징에서 다음 페이지가 있을 때만)
 
     private PageResponse(List<T> content,
-                         int page,
+                         Integer page,
                          int size,
-                         long totalElements,
-                         int totalPages,
+                         Long totalElements,
+                         Integer totalPages,
                          boolean first,
-                         boolean last) {
+                         boolean last,
+                         String nextCursor) {
         this.content = content;
         this.page = page;
         this.size = size;
@@ -30,6 +33,7 @@ public class PageResponse<T> {
         this.totalPages = totalPages;
         this.first = first;
         this.last = last;
+        this.nextCursor = nextCursor;
     }
 
     public static <T> PageResponse<T> from(Page<T> page) {
@@ -40,7 +44,34 @@ public class PageResponse<T> {
             page.getTotalElements(),
             page.getTotalPages(),
             page.isFirst(),
-            page.isLast()
+            page.isLast(),
+            null
         );
     }
-}
\ No newline at end of file
+
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice) {
+        return new PageResponse<>(
+            slice.getContent(),
+            slice.getNumber(),
+            slice.getSize(),
+            null,
+            null,
+            slice.isFirst(),
+            !slice.hasNext(),
+            null
+        );
+    }
+
+    public static <T> PageResponse<T> ofCursor(Slice<T> slice, boolean first, String nextCursor) {
+        return new PageResponse<>(
+            slice.getContent(),
+            null,
+            slice.getSize(),
+            null,
+            null,
+            first,
+            !slice.hasNext(),
+            nextCursor
+        );
+    }
+}
@@ -1,16 +1,44 @@
 package com.planitsquare.holidayservice.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Configuration
 public class AsyncConfig {
 
-    @Bean(name = "holidayExecutor")
-    public Executor holidayExecutor() {
-        return Executors.newFixedThreadPool(10);
+    // 작업당 가상 스레드. 동시성 상한은 스레드 수가 아니라 NagerUpstreamGuard 의 적응형 한도로 제어한다.
+    // 작업 대기(executor.idle)·실행(executor) 시간을 name=holidayExecutor 태그로 기록
+    @Bean(name = "holidayExecutor", destroyMethod = "")
+    public ExecutorService holidayExecutor(MeterRegistry meterRegistry) {
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("holiday-sync-", 0).factory()
+        );
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "holidayExecutor");
     }
-}
\ No newline at end of file
+
+    // 종료 시 진행 중인 동기화 작업을 기다렸다가, 시간 초과 시 인터럽트
+    @Bean
+    public DisposableBean holidayExecutorShutdown(
+        @Qualifier("holidayExecutor") ExecutorService holidayExecutor,
+        @Value("${holiday.sync.shutdown-timeout-seconds:30}") long timeoutSeconds
+    ) {
+        return () -> {
+            holidayExecutor.shutdown();
+            if (!holidayExecutor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("[AsyncConfig] holidayExecutor 종료 대기 시간 초과 - timeoutSeconds={}, 남은 작업 인터럽트", timeoutSeconds);
+                holidayExecutor.shutdownNow();
+            }
+        };
+    }
+}
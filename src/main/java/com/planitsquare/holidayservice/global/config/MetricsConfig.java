@@ -0,0 +1,90 @@
+package com.planitsquare.holidayservice.global.config;
+
+import com.planitsquare.holidayservice.application.holiday.HolidayLoadTracker;
+import com.planitsquare.holidayservice.application.holiday.HolidaySearchCache;
+import com.planitsquare.holidayservice.application.holiday.HolidaySyncPipeline;
+import com.planitsquare.holidayservice.external.nager.NagerApiClient;
+import com.planitsquare.holidayservice.external.nager.NagerUpstreamGuard;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+
+/**
+ * 이미 메모리에 있는 상태값(파이프라인 큐 대기량, 초기 적재 상태, Nager 호출 슬롯·서킷, 검색 캐시 통계)을 스크랩 시점에 읽는 지표.
+ * holidayExecutor 는 가상 스레드라 풀 크기 제한이 없으므로, 포화는 호출 슬롯 대기 수와 단계별 큐 대기량으로 본다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder holidaySyncStageMetrics(HolidaySyncPipeline pipeline) {
+        return registry -> {
+            Gauge.builder("holiday.sync.active.runs", pipeline, p -> p.stageStats().activeRuns())
+                .description("실행 중인 동기화 파이프라인 수")
+                .register(registry);
+            Gauge.builder("holiday.sync.stage.queued", pipeline, p -> p.stageStats().pendingFetch())
+                .description("단계별 대기 중인 (연도, 국가) 수")
+                .tag("stage", "fetch")
+                .register(registry);
+            Gauge.builder("holiday.sync.stage.queued", pipeline, p -> p.stageStats().diffQueueDepth())
+                .description("단계별 대기 중인 (연도, 국가) 수")
+                .tag("stage", "diff")
+                .register(registry);
+            Gauge.builder("holiday.sync.stage.queued", pipeline, p -> p.stageStats().writeQueueDepth())
+                .description("단계별 대기 중인 (연도, 국가) 수")
+                .tag("stage", "write")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder holidayInitialLoadMetrics(HolidayLoadTracker loadTracker) {
+        return registry -> {
+            for (HolidayLoadTracker.State state : HolidayLoadTracker.State.values()) {
+                Gauge.builder("holiday.init.partitions", loadTracker, t -> t.count(state))
+                    .description("초기 적재 상태별 (연도, 국가) 수")
+                    .tag("state", state.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder nagerPermitMetrics(NagerApiClient nagerApiClient, NagerUpstreamGuard upstreamGuard) {
+        return registry -> {
+            Gauge.builder("holiday.nager.concurrency.limit", upstreamGuard, NagerUpstreamGuard::limit)
+                .description("AIMD 로 조정된 현재 Nager 동시 요청 한도")
+                .register(registry);
+            Gauge.builder("holiday.nager.circuit.state", upstreamGuard, g -> g.state().ordinal())
+                .description("Nager 서킷 상태 (0=closed, 1=half-open, 2=open)")
+                .register(registry);
+            Gauge.builder("holiday.nager.in.flight", nagerApiClient, NagerApiClient::inFlight)
+                .description("진행 중인 Nager 요청 수")
+                .register(registry);
+            Gauge.builder("holiday.nager.waiting", nagerApiClient, NagerApiClient::waiting)
+                .description("Nager 호출 슬롯을 기다리는 작업 수")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder holidaySearchCacheMetrics(HolidaySearchCache searchCache) {
+        return registry -> {
+            Gauge.builder("holiday.search.cache.size", searchCache, c -> c.stats().size())
+                .description("검색 결과 캐시 항목 수")
+                .register(registry);
+            FunctionCounter.builder("holiday.search.cache.hits", searchCache, c -> c.stats().hits())
+                .register(registry);
+            FunctionCounter.builder("holiday.search.cache.misses", searchCache, c -> c.stats().misses())
+                .register(registry);
+            FunctionCounter.builder("holiday.search.cache.evictions", searchCache, c -> c.stats().evictions())
+                .register(registry);
+            FunctionCounter.builder("holiday.search.cache.invalidations", searchCache, c -> c.stats().invalidations())
+                .register(registry);
+        };
+    }
+}
@@ -1,16 +1,40 @@
 package com.planitsquare.holidayservice.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class RestClientConfig {
 
     @Bean
-    public RestClient nagerRestClient() {
+    public RestClient nagerRestClient(
+        @Value("${holiday.nager.base-url:https://date.nager.at/api/v3}") String baseUrl,
+        @Value("${holiday.nager.connect-timeout-ms:2000}") long connectTimeoutMs,
+        @Value("${holiday.nager.read-timeout-ms:5000}") long readTimeoutMs,
+        @Value("${holiday.nager.http2:true}") boolean http2
+    ) {
+        // JDK HttpClient 는 호스트별 커넥션 풀과 keep-alive 를 내장하고,
+        // HTTP/2 는 ALPN 으로 협상해 서버가 지원하지 않으면 HTTP/1.1 로 내려간다
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+        // 요청 1건당 응답 대기 상한 (멈춘 upstream 이 holidayExecutor 스레드와 호출 슬롯을 계속 잡지 않도록)
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
         return RestClient.builder()
-            .baseUrl("https://date.nager.at/api/v3")
+            .baseUrl(baseUrl)
+            .requestFactory(requestFactory)
+            .requestInterceptor(new GzipDecompressingInterceptor())
             .build();
     }
-}
\ No newline at end of file
+}
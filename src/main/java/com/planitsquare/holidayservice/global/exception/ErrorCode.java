@@ -8,13 +8,20 @@ public enum ErrorCode {
 
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     INVALID_SEARCH_CONDITION(HttpStatus.BAD_REQUEST, "검색 조건이 유효하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
     DELETE_CONDITION_REQUIRED(HttpStatus.BAD_REQUEST, "삭제를 위해 year 또는 countryCode 중 하나 이상이 필요합니다."),
     SYNC_TARGET_NOT_FOUND(HttpStatus.BAD_REQUEST, "동기화 대상이 존재하지 않습니다."),
 
     COUNTRY_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 국가 정보를 찾을 수 없습니다."),
     HOLIDAY_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 공휴일 정보를 찾을 수 없습니다."),
+    BUSINESS_CALENDAR_NOT_AVAILABLE(HttpStatus.NOT_FOUND, "영업일 계산에 필요한 공휴일 데이터가 없습니다."),
+    SYNC_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "동기화 작업을 찾을 수 없습니다."),
+
+    SYNC_IN_PROGRESS(HttpStatus.CONFLICT, "다른 동기화 작업이 진행 중입니다."),
+    SYNC_JOB_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "대기 중인 동기화 작업이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     NAGER_API_ERROR(HttpStatus.BAD_GATEWAY, "외부 API(Nager.Date) 요청 중 오류가 발생했습니다."),
+    NAGER_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 API(Nager.Date) 장애로 호출이 일시 중단되었습니다. 잠시 후 다시 시도해주세요."),
 
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
 
@@ -0,0 +1,46 @@
+package com.planitsquare.holidayservice.global.health;
+
+import com.planitsquare.holidayservice.application.holiday.HolidayLoadTracker;
+import com.planitsquare.holidayservice.application.holiday.HolidayLoadTracker.Phase;
+import com.planitsquare.holidayservice.application.holiday.HolidayLoadTracker.State;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초기 적재 상태 (/actuator/health/holidayData, readiness 그룹에 포함)
+ * - UP: 우선 국가 파티션 처리 완료 + 적재된 파티션 있음 (나머지는 적재 중이어도 트래픽 수신)
+ * - OUT_OF_SERVICE: 우선 국가 파티션 적재 중
+ * - DOWN: 적재가 끝났거나 중단되었는데 서비스할 데이터가 없음
+ * details.partitions 에 국가 → (연도 → PENDING | LOADED | FAILED) 를 포함한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayDataHealthIndicator implements HealthIndicator {
+
+    private final HolidayLoadTracker holidayLoadTracker;
+
+    @Override
+    public Health health() {
+        Phase phase = holidayLoadTracker.phase();
+
+        Health.Builder builder;
+        if (holidayLoadTracker.isReady()) {
+            builder = Health.up();
+        } else if (phase == Phase.LOADING) {
+            builder = Health.outOfService();
+        } else {
+            builder = Health.down();
+        }
+
+        return builder
+            .withDetail("phase", phase)
+            .withDetail("priorityCountries", holidayLoadTracker.priorityCountries())
+            .withDetail("loaded", holidayLoadTracker.count(State.LOADED))
+            .withDetail("pending", holidayLoadTracker.count(State.PENDING))
+            .withDetail("failed", holidayLoadTracker.count(State.FAILED))
+            .withDetail("partitions", holidayLoadTracker.states())
+            .build();
+    }
+}
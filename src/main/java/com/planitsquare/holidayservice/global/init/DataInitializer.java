@@ -1,30 +1,78 @@
 package com.planitsquare.holidayservice.global.init;
 
+import com.planitsquare.holidayservice.application.holiday.HolidayLoadTracker;
+import com.planitsquare.holidayservice.application.holiday.HolidaySnapshotService;
+import com.planitsquare.holidayservice.application.holiday.HolidaySyncLock;
 import com.planitsquare.holidayservice.application.holiday.HolidaySyncService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Executor;
+
+/**
+ * 기동 시 국가 + 기본 연도 범위(holiday.sync.from-year ~ to-year) 공휴일 초기 적재.
+ * 적재는 holidayExecutor 에서 진행되어 기동을 막지 않으며, 진행 상태는 HolidayLoadTracker 로 노출된다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @Profile("local")
 public class DataInitializer implements ApplicationRunner {
 
     private final HolidaySyncService holidaySyncService;
+    private final HolidaySnapshotService holidaySnapshotService;
+    private final HolidayLoadTracker holidayLoadTracker;
+    private final HolidaySyncLock holidaySyncLock;
+    private final Executor holidayExecutor;
+
+    public DataInitializer(
+        HolidaySyncService holidaySyncService,
+        HolidaySnapshotService holidaySnapshotService,
+        HolidayLoadTracker holidayLoadTracker,
+        HolidaySyncLock holidaySyncLock,
+        @Qualifier("holidayExecutor") Executor holidayExecutor
+    ) {
+        this.holidaySyncService = holidaySyncService;
+        this.holidaySnapshotService = holidaySnapshotService;
+        this.holidayLoadTracker = holidayLoadTracker;
+        this.holidaySyncLock = holidaySyncLock;
+        this.holidayExecutor = holidayExecutor;
+    }
 
     @Override
     public void run(ApplicationArguments args) {
-        log.info("[HolidayDataInitializer] 애플리케이션 시작 - 국가 + 6년치 휴일 초기 적재 시작");
+        log.info("[HolidayDataInitializer] 애플리케이션 시작 - 국가 + 기본 연도 범위 휴일 초기 적재 시작");
         long start = System.currentTimeMillis();
+        holidayLoadTracker.start();
+
+        // 로컬 스냅샷이 있으면 그것으로 바로 서비스하고, upstream 변경분은 백그라운드에서 반영
+        if (holidaySnapshotService.restore()) {
+            long end = System.currentTimeMillis();
+            log.info("[HolidayDataInitializer] 스냅샷으로 초기 적재 완료 elapsedMs={}ms, 백그라운드 동기화 시작", (end - start));
+        } else {
+            log.info("[HolidayDataInitializer] 백그라운드 초기 적재 시작 - 적재된 (연도, 국가) 부터 검색 가능, 진행 상태는 /actuator/health/holidayData");
+        }
+        holidayExecutor.execute(() -> backgroundSync(start));
+    }
 
-        //holidaySyncService.syncFiveYearsAllCountries();
-        holidaySyncService.syncSixYearsAllCountriesParallel();
+    private void backgroundSync(long start) {
+        try {
+            // 비동기 작업·API 요청과 같은 잠금을 사용해 같은 파티션을 동시에 적재하지 않도록 한다
+            holidaySyncLock.run(() -> {
+                //holidaySyncService.syncAllCountries();
+                holidaySyncService.syncAllCountriesParallel();
+                holidaySnapshotService.save();
+            });
+            holidayLoadTracker.finish();
 
-        long end = System.currentTimeMillis();
-        log.info("[HolidayDataInitializer] 초기 적재 완료 elapsedMs={}ms", (end - start));
+            long end = System.currentTimeMillis();
+            log.info("[HolidayDataInitializer] 초기 적재 완료 elapsedMs={}ms", (end - start));
+        } catch (RuntimeException e) {
+            holidayLoadTracker.abort();
+            log.error("[HolidayDataInitializer] 공휴일 동기화 실패", e);
+        }
     }
-}
\ No newline at end of file
+}
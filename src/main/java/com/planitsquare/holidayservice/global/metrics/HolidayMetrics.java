@@ -0,0 +1,135 @@
+package com.planitsquare.holidayservice.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동기화 / Nager 호출 / 검색 지표. /actuator/prometheus 로 수집된다.
+ * 지표 이름과 태그를 한 곳에 모아 호출부마다 문자열이 흩어지지 않게 한다.
+ */
+@Component
+public class HolidayMetrics {
+
+    public static final String SOURCE_SINGLE = "single";
+    public static final String SOURCE_PIPELINE = "pipeline";
+    public static final String SOURCE_REFRESH = "refresh";
+
+    private final MeterRegistry registry;
+
+    public HolidayMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * (연도, 국가) 단위 동기화 소요 시간
+     * 국가·연도 태그는 파티션 수만큼 시계열이 생기므로 count / sum / max 만 두고,
+     * 분포(히스토그램)는 source / outcome 태그만 가진 holiday.sync.latency 로 따로 기록한다.
+     *
+     * @param outcome changed / unchanged / failed
+     */
+    public void recordSync(String source, int year, String countryCode, String outcome, long elapsedNanos) {
+        Timer.builder("holiday.sync.duration")
+            .description("(연도, 국가) 단위 동기화 소요 시간")
+            .tags("source", source, "country", countryCode, "year", String.valueOf(year), "outcome", outcome)
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Timer.builder("holiday.sync.latency")
+            .description("(연도, 국가) 단위 동기화 소요 시간 분포")
+            .tags("source", source, "outcome", outcome)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(10))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 동기화 결과 행 수
+     *
+     * @param result inserted / skipped / updated / deleted
+     */
+    public void recordSyncRows(String source, String countryCode, String result, long rows) {
+        if (rows <= 0) {
+            return;
+        }
+        Counter.builder("holiday.sync.rows")
+            .description("동기화로 반영되거나 건너뛴 공휴일 수")
+            .tags("source", source, "country", countryCode, "result", result)
+            .register(registry)
+            .increment(rows);
+    }
+
+    /**
+     * 전체 동기화 실행(초기 적재 / 재동기화) 소요 시간
+     */
+    public void recordSyncRun(String source, String outcome, long elapsedNanos) {
+        Timer.builder("holiday.sync.run")
+            .description("동기화 실행 전체 소요 시간")
+            .tags("source", source, "outcome", outcome)
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Nager 요청 1건 소요 시간 (호출 슬롯 대기 제외)
+     *
+     * @param status HTTP 상태 코드, 응답이 없으면 IO_ERROR / ERROR
+     */
+    public void recordUpstream(String operation, String status, long elapsedNanos) {
+        Timer.builder("holiday.nager.requests")
+            .description("Nager API 요청 소요 시간")
+            .tags("operation", operation, "status", status)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param outcome retry(재시도 예정) / exhausted(최대 재시도 초과)
+     */
+    public void recordUpstreamRetry(String outcome) {
+        Counter.builder("holiday.nager.retries")
+            .description("Nager API 호출 실패 후 재시도 / 재시도 포기 수")
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment();
+    }
+
+    public Timer.Sample startSample() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * 검색 API 응답 시간. 어떤 필터를 썼는지에 따라 태그를 나눈다.
+     *
+     * @param outcome ok / partial(초기 적재 중 일부 파티션 미적재) / not_modified / error
+     */
+    public void recordSearch(
+        Timer.Sample sample,
+        String paging,
+        boolean country,
+        boolean year,
+        boolean range,
+        boolean type,
+        String outcome
+    ) {
+        sample.stop(Timer.builder("holiday.search")
+            .description("공휴일 검색 API 응답 시간")
+            .tags(
+                "paging", paging,
+                "country", String.valueOf(country),
+                "year", String.valueOf(year),
+                "range", String.valueOf(range),
+                "type", String.valueOf(type),
+                "outcome", outcome
+            )
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry));
+    }
+}
@@ -0,0 +1,77 @@
+package com.planitsquare.holidayservice.presentation;
+
+import com.planitsquare.holidayservice.application.holiday.BusinessDayService;
+import com.planitsquare.holidayservice.global.api.ApiResponse;
+import com.planitsquare.holidayservice.presentation.dto.BusinessDayCountResponse;
+import com.planitsquare.holidayservice.presentation.dto.BusinessDayShiftResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/business-days")
+@Tag(
+    name = "Business Day API",
+    description = "저장된 공휴일과 주말을 기준으로 국가별 영업일을 계산합니다."
+)
+public class BusinessDayController {
+
+    private final BusinessDayService businessDayService;
+
+    // 기간 내 영업일 수
+    @GetMapping("/count")
+    @Operation(
+        summary = "기간 내 영업일 수 계산",
+        description = "from ~ to (양 끝 포함) 사이에서 주말과 전국 단위 법정 공휴일(Public)을 제외한 영업일 수를 반환합니다."
+    )
+    public ResponseEntity<ApiResponse<BusinessDayCountResponse>> count(
+        @Parameter(description = "국가 코드 (예: KR, US).", example = "KR")
+        @RequestParam String countryCode,
+
+        @Parameter(description = "시작일 (YYYY-MM-DD).", example = "2024-01-01")
+        @RequestParam
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,
+
+        @Parameter(description = "종료일 (YYYY-MM-DD).", example = "2024-12-31")
+        @RequestParam
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to
+    ) {
+        long businessDays = businessDayService.countBusinessDays(countryCode, from, to);
+        return ResponseEntity.ok(ApiResponse.ok(
+            new BusinessDayCountResponse(countryCode, from, to, businessDays)
+        ));
+    }
+
+    // N 영업일 뒤(앞)의 날짜
+    @GetMapping("/add")
+    @Operation(
+        summary = "N 영업일 뒤의 날짜 계산",
+        description = "date 로부터 days 영업일 뒤의 날짜를 반환합니다. days 가 음수이면 이전 영업일을 계산합니다."
+    )
+    public ResponseEntity<ApiResponse<BusinessDayShiftResponse>> add(
+        @Parameter(description = "국가 코드 (예: KR, US).", example = "KR")
+        @RequestParam String countryCode,
+
+        @Parameter(description = "기준일 (YYYY-MM-DD).", example = "2024-09-13")
+        @RequestParam
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date,
+
+        @Parameter(description = "이동할 영업일 수 (음수 가능).", example = "3")
+        @RequestParam int days
+    ) {
+        LocalDate result = businessDayService.addBusinessDays(countryCode, date, days);
+        return ResponseEntity.ok(ApiResponse.ok(
+            new BusinessDayShiftResponse(countryCode, date, days, result)
+        ));
+    }
+}
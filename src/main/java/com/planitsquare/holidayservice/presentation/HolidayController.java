@@ -1,11 +1,19 @@
 package com.planitsquare.holidayservice.presentation;
 
+import com.planitsquare.holidayservice.application.holiday.HolidayLoadTracker;
+import com.planitsquare.holidayservice.application.holiday.HolidayPagingMode;
 import com.planitsquare.holidayservice.application.holiday.HolidayQueryService;
+import com.planitsquare.holidayservice.application.holiday.HolidaySearchCacheStats;
+import com.planitsquare.holidayservice.application.holiday.HolidayRefreshResult;
 import com.planitsquare.holidayservice.application.holiday.HolidaySearchCond;
 import com.planitsquare.holidayservice.application.holiday.HolidaySyncService;
+import com.planitsquare.holidayservice.application.holiday.HolidaySyncLock;
+import com.planitsquare.holidayservice.domain.holiday.HolidayDataVersions;
 import com.planitsquare.holidayservice.global.api.ApiResponse;
 import com.planitsquare.holidayservice.global.api.PageResponse;
+import com.planitsquare.holidayservice.global.metrics.HolidayMetrics;
 import com.planitsquare.holidayservice.presentation.dto.HolidayResponse;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,9 +21,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -28,8 +38,15 @@ import java.time.LocalDate;
 )
 public class HolidayController {
 
+    // 조건 범위에 아직 적재되지 않은 (연도, 국가) 가 있으면 부분 결과임을 알리는 헤더
+    private static final String DATA_AVAILABILITY_HEADER = "X-Holiday-Data-Availability";
+    private static final String LOADED_PARTITIONS_HEADER = "X-Holiday-Data-Loaded-Partitions";
+
     private final HolidaySyncService holidaySyncService;
+    private final HolidaySyncLock holidaySyncLock;
     private final HolidayQueryService holidayQueryService;
+    private final HolidayMetrics holidayMetrics;
+    private final HolidayLoadTracker holidayLoadTracker;
 
 
 
@@ -45,7 +62,7 @@ public class HolidayController {
         @Parameter(description = "국가 코드 (예: KR, US)", example = "KR")
         @PathVariable String countryCode
     ) {
-        holidaySyncService.syncByYearAndCountry(year, countryCode);
+        holidaySyncLock.callOrReject(() -> holidaySyncService.syncByYearAndCountry(year, countryCode));
         return ResponseEntity.ok(ApiResponse.ok("sync completed"));
     }
 
@@ -54,15 +71,16 @@ public class HolidayController {
     @Operation(
         summary = "공휴일 재동기화(Refresh)",
         description = """
-            기존 Holiday 데이터를 조건에 맞게 삭제한 뒤, 같은 조건으로 다시 동기화합니다.
+            조건 범위를 외부 API 결과와 비교해 바뀐 공휴일만 추가·수정·삭제하고, 변경 건수를 반환합니다.
             - year + countryCode: 해당 연도·국가만 재동기화
             - year만 존재: 모든 국가의 해당 연도 재동기화
-            - countryCode만 존재: 해당 국가의 2020~2025 전체 재동기화
+            - countryCode만 존재: 해당 국가의 기본 연도 범위(holiday.sync.from-year ~ to-year, 기본 2020~2025) 전체 재동기화
+            오래 걸리는 범위는 비동기 작업 API(POST /api/holidays/sync-jobs)를 사용하세요.
             """
     )
-    public ResponseEntity<ApiResponse<String>> refresh(
+    public ResponseEntity<ApiResponse<HolidayRefreshResult>> refresh(
         @Parameter(
-            description = "재동기화할 연도 (예: 2024). null이면 countryCode만 기준으로 2020~2025 전체 재동기화.",
+            description = "재동기화할 연도 (예: 2024). null이면 countryCode만 기준으로 기본 연도 범위 전체 재동기화.",
             example = "2024"
         )
         @RequestParam(required = false) Integer year,
@@ -72,8 +90,7 @@ public class HolidayController {
         )
         @RequestParam(required = false) String countryCode
     ) {
-        holidaySyncService.refresh(year, countryCode);
-        return ResponseEntity.ok(ApiResponse.ok("refresh completed"));
+        return ResponseEntity.ok(ApiResponse.ok(holidaySyncLock.callOrReject(() -> holidaySyncService.refresh(year, countryCode))));
     }
 
     // 삭제
@@ -99,11 +116,21 @@ public class HolidayController {
         )
         @RequestParam(required = false) String countryCode
     ) {
-        long deleted = holidaySyncService.delete(year, countryCode);
+        long deleted = holidaySyncLock.callOrReject(() -> holidaySyncService.delete(year, countryCode));
         String message = "deleted " + deleted + " holidays";
         return ResponseEntity.ok(ApiResponse.ok(message));
     }
 
+    // 검색 결과 캐시 통계
+    @GetMapping("/cache/stats")
+    @Operation(
+        summary = "공휴일 검색 결과 캐시 통계",
+        description = "검색 결과 캐시의 항목 수, 적중/미스 수, 용량·TTL 제거 수, 데이터 변경 폐기 수를 반환합니다."
+    )
+    public ResponseEntity<ApiResponse<HolidaySearchCacheStats>> cacheStats() {
+        return ResponseEntity.ok(ApiResponse.ok(holidayQueryService.cacheStats()));
+    }
+
     // 검색
     @GetMapping
     @Operation(
@@ -111,6 +138,11 @@ public class HolidayController {
         description = """
             countryCode, year, 날짜 범위(from/to), type 조건으로 공휴일을 검색합니다.
             countryCode와 year가 모두 null인 경우 BusinessException(INVALID_SEARCH_CONDITION) 이 발생합니다.
+            paging=SLICE 이면 전체 건수 없이 다음 페이지 존재 여부(last)만 반환합니다.
+            paging=CURSOR 이면 (date, id) 기준 커서 페이징으로 조회하고, 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.
+            응답의 ETag / Last-Modified 를 If-None-Match / If-Modified-Since 로 보내면, 데이터가 바뀌지 않은 경우 304 를 반환합니다.
+            기동 직후 초기 적재 중이면 적재된 (연도, 국가) 만으로 응답하고,
+            조건 범위에 미적재 파티션이 있으면 X-Holiday-Data-Availability: partial 과 X-Holiday-Data-Loaded-Partitions: 적재/대상 헤더를 포함합니다.
             """
     )
     public ResponseEntity<ApiResponse<PageResponse<HolidayResponse>>> search(
@@ -133,9 +165,18 @@ public class HolidayController {
         @Parameter(description = "공휴일 유형 (예: Public).", example = "Public")
         @RequestParam(required = false) String type,
 
+        @Parameter(description = "페이징 방식 (OFFSET | SLICE | CURSOR). 기본 OFFSET", example = "OFFSET")
+        @RequestParam(defaultValue = "OFFSET") HolidayPagingMode paging,
+
+        @Parameter(description = "이전 응답의 nextCursor. 지정하면 CURSOR 방식으로 조회합니다.")
+        @RequestParam(required = false) String cursor,
+
         @Parameter(description = "페이지 정보 (page, size, sort). 기본 size=20, sort=date ASC")
         @PageableDefault(size = 20, sort = "date")
-        Pageable pageable
+        Pageable pageable,
+
+        @Parameter(hidden = true)
+        WebRequest webRequest
     ) {
         HolidaySearchCond cond = HolidaySearchCond.builder()
             .countryCode(countryCode)
@@ -145,9 +186,51 @@ public class HolidayController {
             .type(type)
             .build();
 
-        PageResponse<HolidayResponse> result =
-            holidayQueryService.search(cond, pageable);
-
-        return ResponseEntity.ok(ApiResponse.ok(result));
+        if (cursor != null) {
+            paging = HolidayPagingMode.CURSOR;
+        }
+
+        Timer.Sample sample = holidayMetrics.startSample();
+        String outcome = "error";
+        try {
+            // 데이터 버전이 같으면 저장소 조회 없이 304
+            HolidayDataVersions.Version version = holidayQueryService.dataVersion(cond);
+            if (webRequest.checkNotModified(version.etag(), version.modifiedAt().toEpochMilli())) {
+                outcome = "not_modified";
+                return null;
+            }
+
+            PageResponse<HolidayResponse> result = switch (paging) {
+                case CURSOR -> holidayQueryService.searchByCursor(cond, cursor, pageable.getPageSize());
+                case SLICE -> holidayQueryService.searchSlice(cond, pageable);
+                case OFFSET -> holidayQueryService.search(cond, pageable);
+            };
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(version.etag())
+                .lastModified(version.modifiedAt());
+
+            HolidayLoadTracker.Coverage coverage = holidayLoadTracker.coverage(countryCode, year, from, to);
+            if (coverage.complete()) {
+                outcome = "ok";
+            } else {
+                outcome = "partial";
+                response.header(DATA_AVAILABILITY_HEADER, "partial")
+                    .header(LOADED_PARTITIONS_HEADER, coverage.loaded() + "/" + coverage.planned());
+            }
+            return response.body(ApiResponse.ok(result));
+
+        } finally {
+            holidayMetrics.recordSearch(
+                sample,
+                paging.name(),
+                countryCode != null && !countryCode.isBlank(),
+                year != null,
+                from != null && to != null,
+                type != null && !type.isBlank(),
+                outcome
+            );
+        }
     }
 }
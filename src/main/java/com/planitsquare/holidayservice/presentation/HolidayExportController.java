@@ -0,0 +1,56 @@
+package com.planitsquare.holidayservice.presentation;
+
+import com.planitsquare.holidayservice.application.holiday.HolidayExportFormat;
+import com.planitsquare.holidayservice.application.holiday.HolidayExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/holidays")
+@Tag(
+    name = "Holiday Export API",
+    description = "저장된 공휴일 전체를 NDJSON / CSV 스트림으로 내보냅니다."
+)
+public class HolidayExportController {
+
+    private final HolidayExportService holidayExportService;
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "공휴일 스트리밍 내보내기",
+        description = """
+            페이징 없이 조건에 맞는 공휴일 전체를 (date, id) 순으로 스트리밍합니다.
+            format=NDJSON 이면 한 줄에 공휴일 하나(JSON), format=CSV 이면 헤더 + 행 형식입니다.
+            countryCode, year 는 선택이며 생략하면 전체를 내보냅니다.
+            """
+    )
+    public ResponseEntity<StreamingResponseBody> export(
+        @Parameter(description = "출력 형식 (NDJSON | CSV). 기본 NDJSON", example = "NDJSON")
+        @RequestParam(defaultValue = "NDJSON") HolidayExportFormat format,
+
+        @Parameter(description = "국가 코드 (예: KR, US).", example = "KR")
+        @RequestParam(required = false) String countryCode,
+
+        @Parameter(description = "연도 (예: 2024).", example = "2024")
+        @RequestParam(required = false) Integer year
+    ) {
+        // 트랜잭션과 DB 커서는 응답을 쓰는 스레드에서 열리고 닫힌다
+        StreamingResponseBody body = out -> holidayExportService.export(countryCode, year, format, out);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"holidays." + format.getExtension() + "\"")
+            .body(body);
+    }
+}
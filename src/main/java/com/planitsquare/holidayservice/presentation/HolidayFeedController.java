@@ -0,0 +1,93 @@
+package com.planitsquare.holidayservice.presentation;
+
+import com.planitsquare.holidayservice.application.holiday.HolidayFeed;
+import com.planitsquare.holidayservice.application.holiday.HolidayFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/holidays")
+@Tag(
+    name = "Holiday Feed API",
+    description = "캘린더 앱 구독용 국가별 iCalendar(.ics) 피드를 제공합니다."
+)
+public class HolidayFeedController {
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final HolidayFeedService holidayFeedService;
+
+    @GetMapping("/{countryCode}.ics")
+    @Operation(
+        summary = "국가별 공휴일 iCalendar 피드",
+        description = """
+            국가의 공휴일을 iCalendar(.ics) 형식으로 반환합니다. fromYear~toYear 를 생략하면 기본 범위(2020~2025)입니다.
+            피드는 데이터가 바뀔 때만 다시 만들어지며, ETag 가 같으면 304 를 반환합니다.
+            """
+    )
+    public ResponseEntity<byte[]> feed(
+        @Parameter(description = "국가 코드 (예: KR, US).", example = "KR")
+        @PathVariable String countryCode,
+
+        @Parameter(description = "시작 연도 (예: 2024).", example = "2024")
+        @RequestParam(required = false) Integer fromYear,
+
+        @Parameter(description = "종료 연도 (예: 2025).", example = "2025")
+        @RequestParam(required = false) Integer toYear,
+
+        @Parameter(hidden = true)
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+
+        @Parameter(hidden = true)
+        WebRequest webRequest
+    ) {
+        HolidayFeed feed = holidayFeedService.feed(countryCode, fromYear, toYear);
+
+        // 압축된 바이트를 그대로 내려보내고, gzip 을 받지 못하는 클라이언트에만 풀어서 전송
+        // 표현(인코딩)이 다르면 strong ETag 도 달라야 하므로 gzip 본문에는 접미사를 붙인다
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        String etag = gzip ? feed.etag().replaceFirst("\"$", "-gzip\"") : feed.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(TEXT_CALENDAR)
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(feed.gzipped());
+        }
+        return response.body(gunzip(feed.gzipped()));
+    }
+
+    private static byte[] gunzip(byte[] gzipped) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
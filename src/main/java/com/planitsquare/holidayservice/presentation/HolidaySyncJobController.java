@@ -0,0 +1,89 @@
+package com.planitsquare.holidayservice.presentation;
+
+import com.planitsquare.holidayservice.application.holiday.HolidaySyncJobRequest;
+import com.planitsquare.holidayservice.application.holiday.HolidaySyncJobService;
+import com.planitsquare.holidayservice.application.holiday.HolidaySyncJobStatus;
+import com.planitsquare.holidayservice.global.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/holidays/sync-jobs")
+@Tag(
+    name = "Holiday Sync Job API",
+    description = "연도·국가 집합 단위 동기화/재동기화를 비동기 작업으로 실행하고 진행 상황 조회·취소 기능을 제공합니다."
+)
+public class HolidaySyncJobController {
+
+    private final HolidaySyncJobService holidaySyncJobService;
+
+
+
+    // 작업 접수
+    @PostMapping
+    @Operation(
+        summary = "비동기 동기화 작업 접수",
+        description = """
+            years(또는 fromYear~toYear) × countryCodes 대상의 동기화 작업을 접수하고 작업 id 를 바로 반환합니다(202).
+            - type=SYNC(기본): 신규 공휴일만 적재, 변경 없는 응답은 건너뜀
+            - type=REFRESH: 외부 API 결과와 비교해 추가·수정·삭제
+            - 연도를 생략하면 기본 연도 범위(holiday.sync.from-year ~ to-year), countryCodes 를 생략하면 사용 중인 국가 전체
+            작업은 접수 순서대로 한 번에 하나씩 실행되며, 진행 상황은 GET /api/holidays/sync-jobs/{jobId} 로 조회합니다.
+            """
+    )
+    public ResponseEntity<ApiResponse<HolidaySyncJobStatus>> submit(
+        @RequestBody HolidaySyncJobRequest request
+    ) {
+        HolidaySyncJobStatus status = holidaySyncJobService.submit(request);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/holidays/sync-jobs/" + status.id()))
+            .body(ApiResponse.ok(status));
+    }
+
+    // 작업 목록
+    @GetMapping
+    @Operation(
+        summary = "동기화 작업 목록",
+        description = "보관 중인 작업(최근 접수 순)의 진행 상황을 반환합니다. 완료된 작업은 holiday.sync.job.max-retained 개까지 보관합니다."
+    )
+    public ResponseEntity<ApiResponse<List<HolidaySyncJobStatus>>> list() {
+        return ResponseEntity.ok(ApiResponse.ok(holidaySyncJobService.list()));
+    }
+
+    // 진행 상황 조회
+    @GetMapping("/{jobId}")
+    @Operation(
+        summary = "동기화 작업 진행 상황",
+        description = "완료/실패/진행 중/남은 파티션 수, 처리량(partitionsPerSec, rowsPerSec), 실패 파티션 목록을 반환합니다."
+    )
+    public ResponseEntity<ApiResponse<HolidaySyncJobStatus>> get(
+        @Parameter(description = "작업 id")
+        @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(holidaySyncJobService.get(jobId)));
+    }
+
+    // 취소
+    @DeleteMapping("/{jobId}")
+    @Operation(
+        summary = "동기화 작업 취소",
+        description = """
+            대기 중인 작업은 바로 취소되고, 실행 중인 작업은 아직 시작하지 않은 파티션을 건너뛰며 진행 중인 파티션까지만 반영한 뒤 CANCELLED 가 됩니다.
+            이미 끝난 작업은 상태가 바뀌지 않습니다.
+            """
+    )
+    public ResponseEntity<ApiResponse<HolidaySyncJobStatus>> cancel(
+        @Parameter(description = "작업 id")
+        @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(holidaySyncJobService.cancel(jobId)));
+    }
+}
@@ -0,0 +1,10 @@
+package com.planitsquare.holidayservice.presentation.dto;
+
+import java.time.LocalDate;
+
+public record BusinessDayCountResponse(
+    String countryCode,
+    LocalDate from,
+    LocalDate to,
+    long businessDays
+) {}
@@ -0,0 +1,10 @@
+package com.planitsquare.holidayservice.presentation.dto;
+
+import java.time.LocalDate;
+
+public record BusinessDayShiftResponse(
+    String countryCode,
+    LocalDate date,
+    int days,
+    LocalDate result
+) {}
@@ -1,12 +1,11 @@
 package com.planitsquare.holidayservice.presentation.dto;
 
 import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidayView;
 import lombok.Builder;
 
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 @Builder
 public record HolidayResponse(
@@ -23,12 +22,24 @@ public record HolidayResponse(
     List<String> types
 ) {
 
-    public static HolidayResponse from(Holiday holiday) {
-        List<String> types = Optional.ofNullable(holiday.getTypes())
-            .filter(s -> !s.isBlank())
-            .map(s -> Arrays.asList(s.split(",")))
-            .orElse(List.of());
+    // 검색 projection(HolidayView) 변환
+    public static HolidayResponse from(HolidayView view) {
+        return HolidayResponse.builder()
+            .id(view.id())
+            .countryCode(view.countryCode())
+            .countryName(view.countryName())
+            .date(view.date())
+            .year(view.year())
+            .localName(view.localName())
+            .name(view.name())
+            .fixed(view.fixed())
+            .globalHoliday(view.globalHoliday())
+            .launchYear(view.launchYear())
+            .types(view.types())
+            .build();
+    }
 
+    public static HolidayResponse from(Holiday holiday) {
         return HolidayResponse.builder()
             .id(holiday.getId())
             .countryCode(holiday.getCountry().getCode())
@@ -40,7 +51,7 @@ public record HolidayResponse(
             .fixed(holiday.isFixed())
             .globalHoliday(holiday.isGlobalHoliday())
             .launchYear(holiday.getLaunchYear())
-            .types(types)
+            .types(holiday.getTypes())
             .build();
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.planitsquare.holidayservice.scheduler;
 
+import com.planitsquare.holidayservice.application.holiday.HolidaySnapshotService;
+import com.planitsquare.holidayservice.application.holiday.HolidaySyncLock;
 import com.planitsquare.holidayservice.application.holiday.HolidaySyncService;
 import com.planitsquare.holidayservice.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,8 @@ public class HolidaySyncScheduler {
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     private final HolidaySyncService holidaySyncService;
+    private final HolidaySnapshotService holidaySnapshotService;
+    private final HolidaySyncLock holidaySyncLock;
 
     /**
      * 매년 1월 2일 01:00 (KST) 에
@@ -35,11 +39,17 @@ public class HolidaySyncScheduler {
         log.info("[Scheduler] 연간 공휴일 재동기화 시작 - previousYear={}, currentYear={}", previousYear, currentYear);
 
         try {
-            // 전년도 전체 국가 공휴일 재동기화
-            holidaySyncService.refresh(previousYear, null);
+            // 진행 중인 동기화(비동기 작업, API 요청)가 끝난 뒤에 실행
+            holidaySyncLock.run(() -> {
+                // 전년도 전체 국가 공휴일 재동기화
+                holidaySyncService.refresh(previousYear, null);
 
-            // 금년도 전체 국가 공휴일 재동기화
-            holidaySyncService.refresh(currentYear, null);
+                // 금년도 전체 국가 공휴일 재동기화
+                holidaySyncService.refresh(currentYear, null);
+
+                // 다음 기동 시 최신 데이터로 복원되도록 스냅샷 갱신
+                holidaySnapshotService.save();
+            });
 
             log.info("[Scheduler] 연간 공휴일 재동기화 완료 - previousYear={}, currentYear={}", previousYear, currentYear);
 
@@ -0,0 +1,184 @@
+package com.planitsquare.holidayservice.application.holiday;
+
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.holiday.Holiday;
+import com.planitsquare.holidayservice.domain.holiday.HolidaySyncManifest;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * HolidaySnapshotCodec 왕복(write → read, manifest 포함)과, 잘리거나 손상되었거나 형식·버전이 다른 파일을 IOException 으로 거절하는지 확인한다.
+ * (HolidaySnapshotService.restore 는 IOException 이면 스냅샷을 무시하고 Nager 적재로 넘어간다)
+ */
+class HolidaySnapshotCodecTest {
+
+	@Test
+	void roundTrip() throws IOException {
+		Country kr = country(1L, "KR", "South Korea", true);
+		Country xx = country(2L, "XX", "Unused", false);
+		List<Holiday> holidays = List.of(
+			// name 이 localName 과 같으면 name 을 생략해 기록한다
+			Holiday.create(kr, LocalDate.of(2024, 1, 1), "New Year's Day", "New Year's Day", true, true, null, 1),
+			Holiday.create(kr, LocalDate.of(2024, 3, 1), "삼일절", "Independence Movement Day", true, true, 1949, 0b11),
+			Holiday.create(xx, LocalDate.of(1999, 12, 31), "Local", "Local Holiday", false, false, 1900, 0b100_0000)
+		);
+
+		List<HolidaySyncManifest> manifests = List.of(
+			manifest(2024, "KR", "a".repeat(64), "\"v1\"", "Mon, 01 Jan 2024 00:00:00 GMT", LocalDateTime.of(2024, 1, 2, 3, 4, 5)),
+			// 304 를 받은 적 없는 파티션은 해시만 있다
+			manifest(1999, "XX", "b".repeat(64), null, null, LocalDateTime.of(2023, 12, 31, 23, 59, 59))
+		);
+
+		byte[] bytes = write(List.of(kr, xx), holidays, manifests);
+		HolidaySnapshotCodec.Snapshot snapshot = HolidaySnapshotCodec.read(new ByteArrayInputStream(bytes));
+
+		assertThat(snapshot.createdAt()).isNotNull();
+		assertThat(snapshot.countries())
+			.extracting(Country::getCode, Country::getName, Country::isUsed)
+			.containsExactly(tuple("KR", "South Korea", true), tuple("XX", "Unused", false));
+		assertThat(snapshot.holidays())
+			.extracting(h -> h.getCountry().getCode(), Holiday::getDate, Holiday::getYear, Holiday::getLocalName,
+				Holiday::getName, Holiday::isFixed, Holiday::isGlobalHoliday, Holiday::getLaunchYear, Holiday::getTypeMask)
+			.containsExactly(
+				tuple("KR", LocalDate.of(2024, 1, 1), 2024, "New Year's Day", "New Year's Day", true, true, null, 1),
+				tuple("KR", LocalDate.of(2024, 3, 1), 2024, "삼일절", "Independence Movement Day", true, true, 1949, 0b11),
+				tuple("XX", LocalDate.of(1999, 12, 31), 1999, "Local", "Local Holiday", false, false, 1900, 0b100_0000)
+			);
+		assertThat(snapshot.manifests())
+			.extracting(HolidaySyncManifest::getYear, HolidaySyncManifest::getCountryCode, HolidaySyncManifest::getPayloadHash,
+				HolidaySyncManifest::getEtag, HolidaySyncManifest::getLastModified, HolidaySyncManifest::getLastSyncedAt)
+			.containsExactly(
+				tuple(2024, "KR", "a".repeat(64), "\"v1\"", "Mon, 01 Jan 2024 00:00:00 GMT", LocalDateTime.of(2024, 1, 2, 3, 4, 5)),
+				tuple(1999, "XX", "b".repeat(64), null, null, LocalDateTime.of(2023, 12, 31, 23, 59, 59))
+			);
+		// 복원된 엔티티는 저장 전(transient) 상태여야 배치 insert 된다
+		assertThat(snapshot.countries()).extracting(Country::getId).containsOnlyNulls();
+		assertThat(snapshot.holidays()).extracting(Holiday::getId).containsOnlyNulls();
+		assertThat(snapshot.manifests()).extracting(HolidaySyncManifest::getId).containsOnlyNulls();
+	}
+
+	@Test
+	void rejectsTruncatedFile() throws IOException {
+		byte[] bytes = write(List.of(country(1L, "KR", "South Korea", true)), sampleHolidays(), sampleManifests());
+
+		for (int length : new int[]{0, 10, bytes.length / 2, bytes.length - 1}) {
+			byte[] truncated = Arrays.copyOf(bytes, length);
+			assertThatThrownBy(() -> HolidaySnapshotCodec.read(new ByteArrayInputStream(truncated)))
+				.as("length=%d", length)
+				.isInstanceOf(IOException.class);
+		}
+	}
+
+	@Test
+	void rejectsCorruptFile() throws IOException {
+		byte[] bytes = write(List.of(country(1L, "KR", "South Korea", true)), sampleHolidays(), sampleManifests());
+
+		// gzip trailer 의 CRC32
+		byte[] badCrc = bytes.clone();
+		badCrc[bytes.length - 8] ^= 0x01;
+		assertThatThrownBy(() -> HolidaySnapshotCodec.read(new ByteArrayInputStream(badCrc)))
+			.isInstanceOf(IOException.class);
+
+		// 압축 본문 중간
+		for (int offset = 12; offset < bytes.length - 8; offset += 7) {
+			byte[] corrupt = bytes.clone();
+			corrupt[offset] ^= (byte) 0xFF;
+			assertThatThrownBy(() -> HolidaySnapshotCodec.read(new ByteArrayInputStream(corrupt)))
+				.as("offset=%d", offset)
+				.isInstanceOf(IOException.class);
+		}
+	}
+
+	@Test
+	void rejectsForeignVersion() throws IOException {
+		byte[] bytes = gzip(data -> {
+			data.writeInt(HolidaySnapshotCodec.MAGIC);
+			data.writeShort(HolidaySnapshotCodec.FORMAT_VERSION + 1);
+			data.writeLong(System.currentTimeMillis());
+			data.writeInt(0);
+		});
+
+		assertThatThrownBy(() -> HolidaySnapshotCodec.read(new ByteArrayInputStream(bytes)))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("버전");
+	}
+
+	@Test
+	void rejectsForeignFormat() throws IOException {
+		byte[] otherMagic = gzip(data -> {
+			data.writeInt(0x12345678);
+			data.writeShort(HolidaySnapshotCodec.FORMAT_VERSION);
+		});
+		assertThatThrownBy(() -> HolidaySnapshotCodec.read(new ByteArrayInputStream(otherMagic)))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("형식");
+
+		byte[] notGzip = "{\"holidays\": []}".getBytes(StandardCharsets.UTF_8);
+		assertThatThrownBy(() -> HolidaySnapshotCodec.read(new ByteArrayInputStream(notGzip)))
+			.isInstanceOf(IOException.class);
+	}
+
+	private static List<Holiday> sampleHolidays() {
+		Country kr = country(1L, "KR", "South Korea", true);
+		return List.of(
+			Holiday.create(kr, LocalDate.of(2024, 1, 1), "신정", "New Year's Day", true, true, null, 1),
+			Holiday.create(kr, LocalDate.of(2024, 3, 1), "삼일절", "Independence Movement Day", true, true, 1949, 1),
+			Holiday.create(kr, LocalDate.of(2024, 5, 5), "어린이날", "Children's Day", true, true, null, 1)
+		);
+	}
+
+	private static List<HolidaySyncManifest> sampleManifests() {
+		return List.of(manifest(2024, "KR", "c".repeat(64), "\"v2\"", null, LocalDateTime.of(2024, 6, 1, 0, 0)));
+	}
+
+	private static HolidaySyncManifest manifest(int year, String countryCode, String payloadHash, String etag,
+		String lastModified, LocalDateTime syncedAt) {
+		HolidaySyncManifest manifest = new HolidaySyncManifest(year, countryCode);
+		manifest.record(payloadHash, etag, lastModified, syncedAt);
+		return manifest;
+	}
+
+	private static byte[] write(List<Country> countries, List<Holiday> holidays, List<HolidaySyncManifest> manifests)
+		throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int written = HolidaySnapshotCodec.write(out, countries, holidays.iterator(), manifests);
+		assertThat(written).isEqualTo(holidays.size());
+		return out.toByteArray();
+	}
+
+	// 스냅샷의 국가 index 는 저장된 국가 id 로 매핑하므로 id 가 있어야 한다
+	private static Country country(Long id, String code, String name, boolean used) {
+		Country country = new Country(code, name);
+		country.markSupported(used);
+		ReflectionTestUtils.setField(country, "id", id);
+		return country;
+	}
+
+	private static byte[] gzip(DataWriter writer) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (DataOutputStream data = new DataOutputStream(new GZIPOutputStream(out))) {
+			writer.write(data);
+		}
+		return out.toByteArray();
+	}
+
+	@FunctionalInterface
+	private interface DataWriter {
+		void write(DataOutputStream data) throws IOException;
+	}
+}
@@ -0,0 +1,266 @@
+package com.planitsquare.holidayservice.domain.holiday;
+
+import com.planitsquare.holidayservice.application.holiday.HolidayCursor;
+import com.planitsquare.holidayservice.application.holiday.HolidaySearchCond;
+import com.planitsquare.holidayservice.domain.country.Country;
+import com.planitsquare.holidayservice.domain.country.CountryRepository;
+import com.planitsquare.holidayservice.global.config.JpaConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 API 의 검색(HolidayView 프로젝션: page / slice / cursor)이 만드는 SQL 의 실행 계획 회귀 테스트.
+ * countryCodeEq / yearEq / dateBetween / typeContains 의 모든 조합(서비스 검증을 통과하는 조합)에 대해
+ * 실제 실행된 SQL 을 바인딩 값 그대로 EXPLAIN 하고, holiday 테이블 전체 스캔이 있으면 실패한다.
+ */
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:holiday-plan;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+	"spring.jpa.show-sql=false",
+	"holiday.index.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, HolidayIndex.class, HolidayCountCache.class, HolidaySearchPlanTest.CaptureConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HolidaySearchPlanTest {
+
+	private static final String TABLE_SCAN = "HOLIDAY.TABLESCAN";
+
+	@Autowired
+	private HolidayRepository holidayRepository;
+
+	@Autowired
+	private CountryRepository countryRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@BeforeAll
+	void seed() throws Exception {
+		// 옵티마이저가 실제와 비슷한 비용으로 판단하도록 여러 국가·연도 데이터를 적재
+		List<Country> countries = new ArrayList<>();
+		countries.add(new Country("KR", "Korea"));
+		for (int i = 0; i < 20; i++) {
+			countries.add(new Country(String.format("C%02d", i), "Country " + i));
+		}
+		countryRepository.saveAll(countries);
+
+		List<Holiday> holidays = new ArrayList<>();
+		for (Country country : countries) {
+			for (int year = 2020; year <= 2025; year++) {
+				for (int month = 1; month <= 12; month++) {
+					List<String> types = switch (month % 3) {
+						case 0 -> List.of("Public");
+						case 1 -> List.of("Public", "Bank");
+						default -> List.of("Observance");
+					};
+					holidays.add(Holiday.create(
+						country, LocalDate.of(year, month, 10), "H" + month, "Holiday " + month,
+						true, true, null, types
+					));
+				}
+			}
+		}
+		holidayRepository.saveAll(holidays);
+
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement()) {
+			statement.execute("ANALYZE");
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("conditions")
+	void searchDoesNotScanHolidayTable(String description, HolidaySearchCond cond) throws Exception {
+		HolidayCursor cursor = new HolidayCursor(LocalDate.of(2023, 3, 10), 0L);
+
+		// 조회 API 가 사용하는 검색 경로마다 SQL 을 따로 수집해, 각 경로가 실제로 SQL 을 실행했는지 확인
+		// page 1 / size 2 는 content 만으로 전체 건수가 정해지지 않으면 count 쿼리까지 실행된다
+		Map<String, Runnable> paths = new LinkedHashMap<>();
+		paths.put("page", () -> holidayRepository.searchHolidayViews(cond, PageRequest.of(1, 2)));
+		paths.put("slice", () -> holidayRepository.searchHolidayViewSlice(cond, PageRequest.of(1, 2)));
+		paths.put("cursor", () -> holidayRepository.searchHolidayViewsAfter(cond, cursor, 2));
+
+		List<CapturedStatement> selects = new ArrayList<>();
+		paths.forEach((path, search) -> {
+			List<CapturedStatement> captured = capture(search);
+			assertThat(captured).as("%s 검색 SQL", path).isNotEmpty();
+			selects.addAll(captured);
+		});
+
+		for (CapturedStatement select : selects) {
+			String plan = explain(select);
+			assertThat(plan.toUpperCase(Locale.ROOT))
+				.as("%s 조건에서 holiday 전체 스캔 발생%nSQL: %s%nPLAN: %s", description, select.sql(), plan)
+				.doesNotContain(TABLE_SCAN);
+		}
+	}
+
+	private List<CapturedStatement> capture(Runnable search) {
+		List<CapturedStatement> statements;
+		StatementCapture.start();
+		try {
+			search.run();
+		} finally {
+			statements = StatementCapture.stop();
+		}
+		return statements.stream()
+			.filter(s -> s.sql().trim().toLowerCase(Locale.ROOT).startsWith("select"))
+			.toList();
+	}
+
+	static Stream<Arguments> conditions() {
+		List<Arguments> arguments = new ArrayList<>();
+		for (int bits = 0; bits < 16; bits++) {
+			boolean country = (bits & 1) != 0;
+			boolean year = (bits & 2) != 0;
+			boolean range = (bits & 4) != 0;
+			boolean type = (bits & 8) != 0;
+
+			// HolidayQueryService 검증: countryCode 또는 year 가 반드시 있어야 한다
+			if (!country && !year) {
+				continue;
+			}
+
+			HolidaySearchCond cond = HolidaySearchCond.builder()
+				.countryCode(country ? "KR" : null)
+				.year(year ? 2023 : null)
+				.from(range ? LocalDate.of(2023, 3, 1) : null)
+				.to(range ? LocalDate.of(2023, 6, 30) : null)
+				.type(type ? "Public" : null)
+				.build();
+
+			String description = "countryCodeEq=" + country + ", yearEq=" + year
+				+ ", dateBetween=" + range + ", typeContains=" + type;
+			arguments.add(Arguments.of(description, cond));
+		}
+		return arguments.stream();
+	}
+
+	private String explain(CapturedStatement captured) throws Exception {
+		try (Connection connection = dataSource.getConnection();
+			 PreparedStatement explain = connection.prepareStatement("EXPLAIN " + captured.sql())) {
+			for (Binding binding : captured.bindings()) {
+				binding.method().invoke(explain, binding.args());
+			}
+			try (ResultSet rs = explain.executeQuery()) {
+				StringBuilder plan = new StringBuilder();
+				while (rs.next()) {
+					plan.append(rs.getString(1)).append('\n');
+				}
+				return plan.toString();
+			}
+		}
+	}
+
+	record Binding(Method method, Object[] args) {
+	}
+
+	record CapturedStatement(String sql, List<Binding> bindings) {
+	}
+
+	/**
+	 * 테스트가 실행되는 동안 PreparedStatement 의 SQL 과 set* 바인딩 호출을 기록한다.
+	 */
+	static final class StatementCapture {
+
+		private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+		static void start() {
+			CAPTURED.set(new ArrayList<>());
+		}
+
+		static List<CapturedStatement> stop() {
+			List<CapturedStatement> captured = CAPTURED.get();
+			CAPTURED.remove();
+			return captured;
+		}
+
+		static DataSource wrap(DataSource target) {
+			return proxy(DataSource.class, target, (method, args, result) ->
+				method.getName().equals("getConnection") ? wrap((Connection) result) : result);
+		}
+
+		private static Connection wrap(Connection target) {
+			return proxy(Connection.class, target, (method, args, result) -> {
+				List<CapturedStatement> captured = CAPTURED.get();
+				if (captured != null && method.getName().equals("prepareStatement")) {
+					CapturedStatement statement = new CapturedStatement((String) args[0], new ArrayList<>());
+					captured.add(statement);
+					return wrap((PreparedStatement) result, statement);
+				}
+				return result;
+			});
+		}
+
+		private static PreparedStatement wrap(PreparedStatement target, CapturedStatement statement) {
+			return proxy(PreparedStatement.class, target, (method, args, result) -> {
+				if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+					statement.bindings().add(new Binding(method, args.clone()));
+				}
+				return result;
+			});
+		}
+
+		private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+			Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+				try {
+					return mapper.map(method, args, method.invoke(target, args));
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			});
+			return type.cast(proxy);
+		}
+
+		@FunctionalInterface
+		private interface ResultMapper {
+			Object map(Method method, Object[] args, Object result) throws Throwable;
+		}
+	}
+
+	@TestConfiguration
+	static class CaptureConfig {
+
+		@Bean
+		static BeanPostProcessor capturingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? StatementCapture.wrap(dataSource) : bean;
+				}
+			};
+		}
+	}
+}